@@ -0,0 +1,82 @@
+package com.editorial.authors.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD concurrency limit driven by latency. While requests complete within {@code tolerance} times
+ * the best recently observed latency and the limit is in use, it grows by about one per round trip;
+ * when latency rises past that it shrinks by {@code backoffRatio}, at most once per round trip.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final long MIN_RTT_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private long minRttNanos = Long.MAX_VALUE;
+    private long minRttExpiresAt;
+    private long lastDecreaseAt;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+    }
+
+    public boolean tryAcquire(Priority priority) {
+        int allowed = (int) Math.max(1, limit * priority.getLimitShare());
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release a slot; pass a latency sample only for requests that completed normally on this thread
+     */
+    public void release(long rttNanos, boolean sample) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (sample) {
+            onSample(rttNanos, inFlightBefore);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightBefore) {
+        long now = System.nanoTime();
+        // The baseline is re-learned periodically so it follows genuine shifts in service time
+        if (rttNanos < minRttNanos || now - minRttExpiresAt > 0) {
+            minRttNanos = rttNanos;
+            minRttExpiresAt = now + MIN_RTT_WINDOW_NANOS;
+        }
+
+        double current = limit;
+        if (rttNanos > minRttNanos * tolerance) {
+            if (now - lastDecreaseAt > minRttNanos) {
+                limit = Math.max(minLimit, current * BACKOFF_RATIO);
+                lastDecreaseAt = now;
+            }
+        } else if (inFlightBefore * 2 >= current) {
+            limit = Math.min(maxLimit, current + 1.0 / current);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.editorial.authors.admission;
+
+import com.editorial.authors.logging.RateLimitedLogger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Admission control in front of the controllers: a per-client token bucket (429) followed by an
+ * adaptive concurrency limit (503), both answered immediately with Retry-After instead of letting
+ * requests queue in Tomcat until they time out. Author lookups from publications-service are
+ * CRITICAL and may use the whole limit, so they are the last requests to be shed.
+ * Buckets are keyed on the remote address; X-Client-Id is only believed from trusted networks,
+ * so a caller cannot borrow the critical identity or dodge its bucket by changing the header.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+    public static final String PRIORITY_HEADER = "X-Priority";
+
+    private static final Pattern CRITICAL_PATH = Pattern.compile("/authors/\\d+(/exists)?");
+
+    private final RateLimitedLogger rateLimitedLog = new RateLimitedLogger(log, Duration.ofMinutes(1), 5);
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<String> criticalClients;
+    private final TrustedNetworks trustedNetworks;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    public AdmissionControlFilter(ObjectMapper objectMapper,
+                                  @Value("${admission.enabled:true}") boolean enabled,
+                                  @Value("${admission.critical-clients:publications-service}") List<String> criticalClients,
+                                  @Value("${admission.trusted-networks:}") List<String> trustedNetworks,
+                                  @Value("${admission.rate-limit.requests-per-second:50}") double requestsPerSecond,
+                                  @Value("${admission.rate-limit.burst:100}") int burst,
+                                  @Value("${admission.rate-limit.max-clients:10000}") int maxClients,
+                                  @Value("${admission.concurrency.initial-limit:50}") int initialLimit,
+                                  @Value("${admission.concurrency.min-limit:10}") int minLimit,
+                                  @Value("${admission.concurrency.max-limit:400}") int maxLimit,
+                                  @Value("${admission.concurrency.latency-tolerance:2.0}") double latencyTolerance) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.criticalClients = criticalClients;
+        this.trustedNetworks = new TrustedNetworks(trustedNetworks);
+        this.rateLimiter = new TokenBucketRateLimiter(requestsPerSecond, burst, maxClients);
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyTolerance);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Priority priority = resolvePriority(request);
+
+        // Trusted services are bounded by the concurrency limit only
+        if (priority != Priority.CRITICAL) {
+            long waitNanos = rateLimiter.tryAcquire(request.getRemoteAddr());
+            if (waitNanos > 0) {
+                reject(response, HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds(waitNanos),
+                        "Rate limit exceeded for client");
+                return;
+            }
+        }
+
+        if (!concurrencyLimiter.tryAcquire(priority)) {
+            rateLimitedLog.warn("shed", "Shedding {} request, in flight {} at limit {}",
+                    priority, concurrencyLimiter.getInFlight(), concurrencyLimiter.getLimit());
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Service is overloaded, retry later");
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Long-lived async responses say nothing about service time
+            concurrencyLimiter.release(System.nanoTime() - start, !request.isAsyncStarted());
+        }
+    }
+
+    private Priority resolvePriority(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        if (clientId != null && criticalClients.contains(clientId) && "GET".equals(request.getMethod())
+                && trustedNetworks.contains(request.getRemoteAddr())
+                && CRITICAL_PATH.matcher(request.getRequestURI().substring(request.getContextPath().length())).matches()) {
+            return Priority.CRITICAL;
+        }
+        return "low".equalsIgnoreCase(request.getHeader(PRIORITY_HEADER)) ? Priority.LOW : Priority.NORMAL;
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
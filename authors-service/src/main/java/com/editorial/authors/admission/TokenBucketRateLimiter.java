@@ -0,0 +1,71 @@
+package com.editorial.authors.admission;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * One token bucket per client key. Idle buckets (refilled to capacity) are evicted when the
+ * number of tracked clients reaches {@code maxClients}.
+ */
+public class TokenBucketRateLimiter {
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private final int maxClients;
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimiter(double requestsPerSecond, int burst, int maxClients) {
+        this.tokensPerNano = requestsPerSecond / 1_000_000_000d;
+        this.capacity = burst;
+        this.maxClients = maxClients;
+    }
+
+    /**
+     * Take one token; returns 0 when admitted, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String client) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.get(client);
+        if (bucket == null) {
+            if (buckets.size() >= maxClients) {
+                evictIdle(now);
+            }
+            bucket = buckets.computeIfAbsent(client, k -> new Bucket(capacity, now));
+        }
+        synchronized (bucket) {
+            bucket.refill(now, tokensPerNano, capacity);
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano);
+        }
+    }
+
+    private void evictIdle(long now) {
+        buckets.entrySet().removeIf(entry -> {
+            Bucket bucket = entry.getValue();
+            synchronized (bucket) {
+                bucket.refill(now, tokensPerNano, capacity);
+                return bucket.tokens >= capacity;
+            }
+        });
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefill;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefill = now;
+        }
+
+        private void refill(long now, double tokensPerNano, double capacity) {
+            if (now > lastRefill) {
+                tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+                lastRefill = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.editorial.authors.admission;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+
+/**
+ * CIDR allow-list ("10.0.0.0/8", "192.168.1.5") that decides which callers may claim a critical
+ * client identity. Only literal addresses are parsed, so matching never does a DNS lookup.
+ */
+public class TrustedNetworks {
+
+    private final List<Network> networks;
+
+    public TrustedNetworks(List<String> cidrs) {
+        this.networks = cidrs.stream()
+                .map(String::trim)
+                .filter(cidr -> !cidr.isEmpty())
+                .map(TrustedNetworks::parse)
+                .toList();
+    }
+
+    public boolean contains(String address) {
+        if (networks.isEmpty() || address == null || !isLiteral(address)) {
+            return false;
+        }
+        byte[] bytes;
+        try {
+            bytes = InetAddress.getByName(address).getAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+        for (Network network : networks) {
+            if (network.matches(bytes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Network parse(String cidr) {
+        int slash = cidr.indexOf('/');
+        String host = slash < 0 ? cidr : cidr.substring(0, slash);
+        if (!isLiteral(host)) {
+            throw new IllegalArgumentException("Trusted network must be an IP address or CIDR: " + cidr);
+        }
+        try {
+            byte[] address = InetAddress.getByName(host).getAddress();
+            int prefix = slash < 0 ? address.length * 8 : Integer.parseInt(cidr.substring(slash + 1));
+            if (prefix < 0 || prefix > address.length * 8) {
+                throw new IllegalArgumentException("Invalid prefix length in " + cidr);
+            }
+            return new Network(address, prefix);
+        } catch (UnknownHostException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid trusted network: " + cidr, e);
+        }
+    }
+
+    private static boolean isLiteral(String address) {
+        return address.indexOf(':') >= 0 || address.chars().allMatch(c -> c == '.' || Character.isDigit(c));
+    }
+
+    private record Network(byte[] address, int prefix) {
+
+        private boolean matches(byte[] candidate) {
+            if (candidate.length != address.length) {
+                return false;
+            }
+            int fullBytes = prefix / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (candidate[i] != address[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefix % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits) & 0xFF;
+            return (candidate[fullBytes] & mask) == (address[fullBytes] & mask);
+        }
+    }
+}
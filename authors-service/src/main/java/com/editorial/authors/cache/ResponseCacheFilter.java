@@ -0,0 +1,87 @@
+package com.editorial.authors.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Serves GETs on the configured list paths from ResponseCache; a hit is one map lookup and a byte copy,
+ * without reaching the controller or the database.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_HEADER = "X-Cache";
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final ResponseCache cache;
+
+    @Value("${response-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${response-cache.paths:/authors}")
+    private List<String> paths;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : paths) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = key(request);
+        ResponseCache.Entry cached = cache.get(key);
+        if (cached != null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(cached.contentType());
+            response.setContentLength(cached.body().length);
+            response.setHeader(CACHE_HEADER, "HIT");
+            response.getOutputStream().write(cached.body());
+            return;
+        }
+
+        long version = cache.currentVersion();
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        cachingResponse.setHeader(CACHE_HEADER, "MISS");
+        try {
+            filterChain.doFilter(request, cachingResponse);
+            if (cachingResponse.getStatus() == HttpServletResponse.SC_OK && cachingResponse.getContentType() != null) {
+                cache.put(key, version, cachingResponse.getContentType(), cachingResponse.getContentAsByteArray());
+            }
+        } finally {
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private static String key(HttpServletRequest request) {
+        String query = request.getQueryString();
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return request.getRequestURI() + '?' + (query != null ? query : "") + '|' + (accept != null ? accept : "");
+    }
+}
@@ -0,0 +1,24 @@
+package com.editorial.authors.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * Checked at runtime rather than through spring.flyway.enabled, which AOT processing fixes at build time;
+     * the Dockerfile's CDS training run starts the context without a database.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${migrations.run-on-startup:true}") boolean runOnStartup) {
+        return flyway -> {
+            if (runOnStartup) {
+                flyway.migrate();
+            }
+        };
+    }
+}
@@ -1,10 +1,10 @@
 package com.editorial.authors.controller;
 
 import com.editorial.authors.dto.AuthorDTO;
+import com.editorial.authors.dto.FieldSelection;
 import com.editorial.authors.service.AuthorService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,7 +12,6 @@ import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/authors")
-@Slf4j
 @RequiredArgsConstructor
 public class AuthorController {
 
@@ -20,24 +19,24 @@ public class AuthorController {
 
     @PostMapping
     public ResponseEntity<AuthorDTO> createAuthor(@Valid @RequestBody AuthorDTO dto) {
-        log.info("Creating author: {}", dto.getEmail());
         AuthorDTO created = authorService.createAuthor(dto);
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<AuthorDTO> getAuthor(@PathVariable Long id) {
-        log.info("Fetching author: {}", id);
-        AuthorDTO author = authorService.getAuthorById(id);
+    public ResponseEntity<AuthorDTO> getAuthor(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields) {
+        AuthorDTO author = authorService.getAuthorById(id, FieldSelection.parse(fields, AuthorDTO.FIELDS));
         return ResponseEntity.ok(author);
     }
 
     @GetMapping
     public ResponseEntity<Page<AuthorDTO>> listAuthors(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        log.info("Listing authors - page: {}, size: {}", page, size);
-        Page<AuthorDTO> authors = authorService.listAuthors(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields) {
+        Page<AuthorDTO> authors = authorService.listAuthors(page, size, FieldSelection.parse(fields, AuthorDTO.FIELDS));
         return ResponseEntity.ok(authors);
     }
 
@@ -45,14 +44,12 @@ public class AuthorController {
     public ResponseEntity<AuthorDTO> updateAuthor(
             @PathVariable Long id,
             @Valid @RequestBody AuthorDTO dto) {
-        log.info("Updating author: {}", id);
         AuthorDTO updated = authorService.updateAuthor(id, dto);
         return ResponseEntity.ok(updated);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteAuthor(@PathVariable Long id) {
-        log.info("Deleting author: {}", id);
         authorService.deleteAuthor(id);
         return ResponseEntity.noContent().build();
     }
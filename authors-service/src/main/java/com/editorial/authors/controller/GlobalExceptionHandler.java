@@ -2,6 +2,8 @@ package com.editorial.authors.controller;
 
 import com.editorial.authors.exception.AuthorAlreadyExistsException;
 import com.editorial.authors.exception.AuthorNotFoundException;
+import com.editorial.authors.exception.InvalidFieldSelectionException;
+import com.editorial.authors.logging.RateLimitedLogger;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -18,9 +21,11 @@ import java.util.Map;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private final RateLimitedLogger rateLimitedLog = new RateLimitedLogger(log, Duration.ofMinutes(1), 5);
+
     @ExceptionHandler(AuthorNotFoundException.class)
     public ResponseEntity<Map<String, Object>> handleAuthorNotFound(AuthorNotFoundException ex) {
-        log.warn("Author not found: {}", ex.getMessage());
+        log.debug("Author not found: {}", ex.getMessage());
         Map<String, Object> response = new HashMap<>();
         response.put("timestamp", LocalDateTime.now());
         response.put("status", HttpStatus.NOT_FOUND.value());
@@ -31,7 +36,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(AuthorAlreadyExistsException.class)
     public ResponseEntity<Map<String, Object>> handleAuthorAlreadyExists(AuthorAlreadyExistsException ex) {
-        log.warn("Author already exists: {}", ex.getMessage());
+        log.debug("Author already exists: {}", ex.getMessage());
         Map<String, Object> response = new HashMap<>();
         response.put("timestamp", LocalDateTime.now());
         response.put("status", HttpStatus.CONFLICT.value());
@@ -40,6 +45,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    @ExceptionHandler(InvalidFieldSelectionException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidFieldSelection(InvalidFieldSelectionException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.BAD_REQUEST.value());
+        response.put("error", "Bad Request");
+        response.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -59,7 +74,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
-        log.error("Unexpected error", ex);
+        rateLimitedLog.error(ex.getClass().getName(), "Unexpected error", ex);
         Map<String, Object> response = new HashMap<>();
         response.put("timestamp", LocalDateTime.now());
         response.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
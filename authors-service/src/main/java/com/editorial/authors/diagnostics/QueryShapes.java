@@ -0,0 +1,47 @@
+package com.editorial.authors.diagnostics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL to its shape: whitespace collapsed, literals replaced by ?, IN lists of any length folded to
+ * {@code (?...)}. Statements that differ only in their bind values or list sizes share a shape.
+ */
+final class QueryShapes {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.$])\\d+(?:\\.\\d+)?");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final int MAX_CACHED = 10_000;
+
+    // Hibernate generates a bounded set of SQL strings, so shapes are computed once per string
+    private static final ConcurrentMap<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private QueryShapes() {
+    }
+
+    static String of(String sql) {
+        String shape = CACHE.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        shape = normalize(sql);
+        if (CACHE.size() < MAX_CACHED) {
+            CACHE.put(sql, shape);
+        }
+        return shape;
+    }
+
+    static boolean isSelect(String shape) {
+        return shape.regionMatches(true, 0, "select", 0, 6) || shape.regionMatches(true, 0, "with", 0, 4);
+    }
+
+    private static String normalize(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return PARAMETER_LIST.matcher(shape).replaceAll("(?...)");
+    }
+}
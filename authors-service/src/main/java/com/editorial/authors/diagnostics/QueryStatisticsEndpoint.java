@@ -0,0 +1,57 @@
+package com.editorial.authors.diagnostics;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GET /api/actuator/queries: Hibernate statistics since startup (or the last DELETE) and the recent
+ * slow statements. Per-endpoint statement counts are the db.statements.per.request metric.
+ */
+@Component
+@Endpoint(id = "queries")
+@RequiredArgsConstructor
+public class QueryStatisticsEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final QueryDiagnostics diagnostics;
+
+    @ReadOperation
+    public Map<String, Object> queries() {
+        Statistics statistics = statistics();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        body.put("statementsPrepared", statistics.getPrepareStatementCount());
+        body.put("queryExecutions", statistics.getQueryExecutionCount());
+        body.put("queryExecutionMaxTimeMs", statistics.getQueryExecutionMaxTime());
+        body.put("queryExecutionMaxTimeQuery", statistics.getQueryExecutionMaxTimeQueryString());
+        body.put("entityLoads", statistics.getEntityLoadCount());
+        body.put("entityFetches", statistics.getEntityFetchCount());
+        body.put("entityInserts", statistics.getEntityInsertCount());
+        body.put("entityUpdates", statistics.getEntityUpdateCount());
+        body.put("entityDeletes", statistics.getEntityDeleteCount());
+        body.put("collectionFetches", statistics.getCollectionFetchCount());
+        body.put("transactions", statistics.getTransactionCount());
+        body.put("optimisticFailures", statistics.getOptimisticFailureCount());
+        body.put("slowQueries", diagnostics.getSlowQueries());
+        return body;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics().clear();
+        diagnostics.clearSlowQueries();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -1,5 +1,6 @@
 package com.editorial.authors.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,13 +8,19 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import jakarta.validation.constraints.*;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonFilter(FieldSelection.FILTER_ID)
 public class AuthorDTO {
 
+    /** Property names accepted by ?fields= */
+    public static final Set<String> FIELDS = Set.of("id", "firstName", "lastName", "email",
+            "biography", "organization", "active", "createdAt", "updatedAt");
+
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private Long id;
 
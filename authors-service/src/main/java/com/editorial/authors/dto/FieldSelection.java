@@ -0,0 +1,67 @@
+package com.editorial.authors.dto;
+
+import com.editorial.authors.exception.InvalidFieldSelectionException;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Sparse fieldset requested through ?fields=a,b,c. An absent or empty parameter selects every field.
+ */
+public final class FieldSelection {
+
+    /** Jackson filter id used by DTOs that support sparse fieldsets */
+    public static final String FILTER_ID = "fieldSelection";
+
+    private static final FieldSelection ALL = new FieldSelection(null);
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    public static FieldSelection parse(String param, Set<String> allowed) {
+        Set<String> fields = split(param);
+        if (fields.isEmpty()) {
+            return ALL;
+        }
+        for (String field : fields) {
+            if (!allowed.contains(field)) {
+                throw new InvalidFieldSelectionException("Unknown field '" + field + "', allowed: " + allowed);
+            }
+        }
+        return new FieldSelection(Collections.unmodifiableSet(fields));
+    }
+
+    public static Set<String> split(String param) {
+        Set<String> fields = new LinkedHashSet<>();
+        if (param == null) {
+            return fields;
+        }
+        for (String field : param.split(",")) {
+            String trimmed = field.trim();
+            if (!trimmed.isEmpty()) {
+                fields.add(trimmed);
+            }
+        }
+        return fields;
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+}
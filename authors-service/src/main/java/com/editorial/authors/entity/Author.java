@@ -7,9 +7,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Table(name = "authors")
+// UPDATEs list only the changed columns; an unchanged entity is not written at all
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
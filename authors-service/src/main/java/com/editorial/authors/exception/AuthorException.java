@@ -21,3 +21,9 @@ public class AuthorAlreadyExistsException extends AuthorException {
         super(message);
     }
 }
+
+public class InvalidFieldSelectionException extends AuthorException {
+    public InvalidFieldSelectionException(String message) {
+        super(message);
+    }
+}
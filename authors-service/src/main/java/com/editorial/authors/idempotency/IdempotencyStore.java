@@ -0,0 +1,32 @@
+package com.editorial.authors.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Storage for Idempotency-Key records. Claims expire after {@code inProgressTimeout} so a crashed
+ * request does not block its key forever; completed records expire after the configured TTL.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Claim the key for the calling request; returns empty when claimed, otherwise the live record
+     */
+    Optional<IdempotencyRecord> claim(String key, String fingerprint, Duration inProgressTimeout);
+
+    /**
+     * Store the response of the request holding the claim
+     */
+    void complete(String key, IdempotencyRecord record, Duration ttl);
+
+    /**
+     * Drop the claim so a retry executes again (used when the request failed with a server error)
+     */
+    void release(String key);
+
+    /**
+     * Wait until the key is completed or released; returns the completed record, or empty if released
+     * and the record still in progress if the timeout elapsed
+     */
+    Optional<IdempotencyRecord> await(String key, Duration timeout) throws InterruptedException;
+}
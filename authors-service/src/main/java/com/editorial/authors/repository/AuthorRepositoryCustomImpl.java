@@ -0,0 +1,59 @@
+package com.editorial.authors.repository;
+
+import com.editorial.authors.entity.Author;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public class AuthorRepositoryCustomImpl implements AuthorRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Tuple> findColumnsById(Long id, Collection<String> attributes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Author> root = query.from(Author.class);
+        query.multiselect(selections(root, attributes)).where(cb.equal(root.get("id"), id));
+        return entityManager.createQuery(query).getResultStream().findFirst();
+    }
+
+    @Override
+    public Page<Tuple> findColumns(Collection<String> attributes, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Author> root = query.from(Author.class);
+        query.multiselect(selections(root, attributes));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        countQuery.select(cb.count(countQuery.from(Author.class)));
+        return PageableExecutionUtils.getPage(rows, pageable,
+                () -> entityManager.createQuery(countQuery).getSingleResult());
+    }
+
+    private List<Selection<?>> selections(Root<Author> root, Collection<String> attributes) {
+        return attributes.stream()
+                .<Selection<?>>map(attribute -> root.get(attribute).alias(attribute))
+                .toList();
+    }
+}
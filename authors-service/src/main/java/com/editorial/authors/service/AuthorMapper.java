@@ -2,8 +2,12 @@ package com.editorial.authors.service;
 
 import com.editorial.authors.dto.AuthorDTO;
 import com.editorial.authors.entity.Author;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 @Component
 public class AuthorMapper {
 
@@ -25,6 +29,31 @@ public class AuthorMapper {
                 .build();
     }
 
+    /**
+     * Build a partial DTO from a row selected with AuthorRepository.findColumns*
+     */
+    public AuthorDTO tupleToDTO(Tuple row) {
+        AuthorDTO dto = new AuthorDTO();
+        for (TupleElement<?> element : row.getElements()) {
+            String alias = element.getAlias();
+            Object value = row.get(alias);
+            switch (alias) {
+                case "id" -> dto.setId((Long) value);
+                case "firstName" -> dto.setFirstName((String) value);
+                case "lastName" -> dto.setLastName((String) value);
+                case "email" -> dto.setEmail((String) value);
+                case "biography" -> dto.setBiography((String) value);
+                case "organization" -> dto.setOrganization((String) value);
+                case "active" -> dto.setActive((Boolean) value);
+                case "createdAt" -> dto.setCreatedAt((LocalDateTime) value);
+                case "updatedAt" -> dto.setUpdatedAt((LocalDateTime) value);
+                default -> {
+                }
+            }
+        }
+        return dto;
+    }
+
     public Author dtoToEntity(AuthorDTO dto) {
         if (dto == null) {
             return null;
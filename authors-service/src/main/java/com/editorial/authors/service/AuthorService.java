@@ -1,6 +1,8 @@
 package com.editorial.authors.service;
 
+import com.editorial.authors.cache.ResponseCache;
 import com.editorial.authors.dto.AuthorDTO;
+import com.editorial.authors.dto.FieldSelection;
 import com.editorial.authors.entity.Author;
 import com.editorial.authors.exception.AuthorAlreadyExistsException;
 import com.editorial.authors.exception.AuthorNotFoundException;
@@ -21,6 +23,7 @@ public class AuthorService {
 
     private final AuthorRepository authorRepository;
     private final AuthorMapper authorMapper;
+    private final ResponseCache responseCache;
 
     /**
      * Create a new author
@@ -32,6 +35,7 @@ public class AuthorService {
 
         Author author = authorMapper.dtoToEntity(dto);
         Author savedAuthor = authorRepository.save(author);
+        responseCache.invalidate();
         log.info("Author created: id={}, email={}", savedAuthor.getId(), savedAuthor.getEmail());
         return authorMapper.entityToDTO(savedAuthor);
     }
@@ -46,6 +50,19 @@ public class AuthorService {
         return authorMapper.entityToDTO(author);
     }
 
+    /**
+     * Get author by ID, selecting only the requested fields
+     */
+    @Transactional(readOnly = true)
+    public AuthorDTO getAuthorById(Long id, FieldSelection fields) {
+        if (fields.isAll()) {
+            return getAuthorById(id);
+        }
+        return authorRepository.findColumnsById(id, fields.getFields())
+                .map(authorMapper::tupleToDTO)
+                .orElseThrow(() -> new AuthorNotFoundException("Author not found with id: " + id));
+    }
+
     /**
      * List all authors with pagination
      */
@@ -56,6 +73,19 @@ public class AuthorService {
                 .map(authorMapper::entityToDTO);
     }
 
+    /**
+     * List authors selecting only the requested fields
+     */
+    @Transactional(readOnly = true)
+    public Page<AuthorDTO> listAuthors(int page, int size, FieldSelection fields) {
+        if (fields.isAll()) {
+            return listAuthors(page, size);
+        }
+        Pageable pageable = PageRequest.of(page, size);
+        return authorRepository.findColumns(fields.getFields(), pageable)
+                .map(authorMapper::tupleToDTO);
+    }
+
     /**
      * Update an author
      */
@@ -65,6 +95,7 @@ public class AuthorService {
 
         authorMapper.updateEntityFromDTO(dto, author);
         Author updatedAuthor = authorRepository.save(author);
+        responseCache.invalidate();
         log.info("Author updated: id={}", id);
         return authorMapper.entityToDTO(updatedAuthor);
     }
@@ -77,6 +108,7 @@ public class AuthorService {
                 .orElseThrow(() -> new AuthorNotFoundException("Author not found with id: " + id));
         author.setActive(false);
         authorRepository.save(author);
+        responseCache.invalidate();
         log.info("Author deactivated: id={}", id);
     }
 
@@ -0,0 +1,12 @@
+-- Baseline schema; IF NOT EXISTS so databases created by the former ddl-auto: update migrate cleanly
+CREATE TABLE IF NOT EXISTS authors (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    email VARCHAR(150) NOT NULL UNIQUE,
+    biography VARCHAR(500),
+    organization VARCHAR(100),
+    active BOOLEAN NOT NULL
+);
@@ -0,0 +1,4 @@
+-- AuthorRepository.findByActive(true, pageable): only active authors are listed, newest first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_authors_active_created_id
+    ON authors (created_at, id)
+    WHERE active;
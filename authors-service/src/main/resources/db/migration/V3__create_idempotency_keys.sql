@@ -0,0 +1,14 @@
+-- Idempotency-Key records shared by all instances when idempotency.store=jdbc
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(512) PRIMARY KEY,
+    fingerprint VARCHAR(64) NOT NULL,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    status_code INTEGER,
+    content_type VARCHAR(255),
+    body BYTEA,
+    created_at TIMESTAMP(6) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL
+);
+
+-- JdbcIdempotencyStore.purgeExpired
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,46 @@
+package com.editorial.authors.repository;
+
+import com.editorial.authors.PostgresContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The hot AuthorRepository queries, in the shape Hibernate generates them, must be served by an index
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AuthorRepositoryQueryPlanTest extends PostgresContainerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void disableSequentialScans() {
+        // Empty tables are always cheapest to scan; with seq scans off the plan shows whether an index matches
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    void findByActiveUsesPartialIndex() {
+        assertThat(plan("SELECT * FROM authors WHERE active = true ORDER BY created_at DESC, id DESC LIMIT 10"))
+                .contains("idx_authors_active_created_id")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void findByEmailUsesUniqueIndex() {
+        assertThat(plan("SELECT * FROM authors WHERE email = 'ana@example.com'"))
+                .contains("Index")
+                .doesNotContain("Seq Scan");
+    }
+
+    private String plan(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
@@ -0,0 +1,48 @@
+package com.editorial.authors.service;
+
+import com.editorial.authors.PostgresContainerTest;
+import com.editorial.authors.diagnostics.StatementCounter;
+import com.editorial.authors.dto.AuthorDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exact number of SQL statements per service call; a change here is a new query (or a new N+1) on a hot path
+ */
+@SpringBootTest
+class AuthorServiceStatementCountTest extends PostgresContainerTest {
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Test
+    void createAuthorChecksEmailAndInserts() {
+        try (StatementCounter statements = StatementCounter.start("POST", "/authors")) {
+            authorService.createAuthor(newAuthor());
+            // existsByEmail, then the INSERT returning the generated id
+            assertThat(statements.count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void getAuthorByIdIsOneSelect() {
+        Long id = authorService.createAuthor(newAuthor()).getId();
+        try (StatementCounter statements = StatementCounter.start("GET", "/authors/{id}")) {
+            authorService.getAuthorById(id);
+            assertThat(statements.count()).isEqualTo(1);
+        }
+    }
+
+    private static AuthorDTO newAuthor() {
+        return AuthorDTO.builder()
+                .firstName("Ana")
+                .lastName("García")
+                .email("ana." + UUID.randomUUID() + "@example.com")
+                .build();
+    }
+}
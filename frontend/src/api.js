@@ -27,7 +27,12 @@ export const publicationService = {
   listPublications: (page = 0, size = 10) => publicationsApi.get(`/publications?page=${page}&size=${size}`),
   listByAuthor: (authorId, page = 0, size = 10) => 
     publicationsApi.get(`/publications/author/${authorId}?page=${page}&size=${size}`),
-  changeStatus: (id, status) => publicationsApi.patch(`/publications/${id}/status?status=${status}`)
+  changeStatus: (id, status, editorName) => publicationsApi.patch(`/publications/${id}/status`, null, {
+    params: editorName ? { status, editorName } : { status }
+  }),
+  getWorkflow: () => publicationsApi.get('/publications/workflow'),
+  getNextStates: (id) => publicationsApi.get(`/publications/${id}/next-states`),
+  subscribeToEvents: () => new EventSource(`${REACT_APP_PUBLICATIONS_API_URL}/publications/events`)
 }
 
 export default {
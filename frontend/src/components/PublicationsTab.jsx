@@ -2,9 +2,19 @@ import React, { useState, useEffect } from 'react'
 import { publicationService, authorService } from '../api'
 import './PublicationsTab.css'
 
+// Button for each target status; which buttons appear comes from the server-side workflow
+const TRANSITION_ACTIONS = {
+  IN_REVIEW: { label: 'Send to Review', className: 'btn-warning' },
+  APPROVED: { label: 'Approve', className: 'btn-success' },
+  REJECTED: { label: 'Reject', className: 'btn-danger' },
+  REQUIRES_CHANGES: { label: 'Request Changes', className: 'btn-warning' },
+  PUBLISHED: { label: 'Publish', className: 'btn-success' }
+}
+
 function PublicationsTab() {
   const [publications, setPublications] = useState([])
   const [authors, setAuthors] = useState([])
+  const [workflow, setWorkflow] = useState({})
   const [loading, setLoading] = useState(false)
   const [error, setError] = useState(null)
   const [showForm, setShowForm] = useState(false)
@@ -25,8 +35,48 @@ function PublicationsTab() {
   useEffect(() => {
     loadPublications()
     loadAuthors()
+    loadWorkflow()
+  }, [])
+
+  // Status changes, edits and new publications are pushed by the server instead of re-listing
+  useEffect(() => {
+    const events = publicationService.subscribeToEvents()
+    events.addEventListener('STATUS_CHANGED', (e) => {
+      const event = JSON.parse(e.data)
+      setPublications(prev => prev.map(pub =>
+        pub.id === event.publicationId ? { ...pub, status: event.status } : pub
+      ))
+    })
+    events.addEventListener('CREATED', async (e) => {
+      const event = JSON.parse(e.data)
+      try {
+        const response = await publicationService.getPublication(event.publicationId)
+        upsertPublication(response.data)
+      } catch (err) {
+        console.error('Failed to load new publication', err)
+      }
+    })
+    events.addEventListener('UPDATED', async (e) => {
+      const event = JSON.parse(e.data)
+      try {
+        const response = await publicationService.getPublication(event.publicationId)
+        upsertPublication(response.data)
+      } catch (err) {
+        console.error('Failed to reload edited publication', err)
+      }
+    })
+    return () => events.close()
   }, [])
 
+  const loadWorkflow = async () => {
+    try {
+      const response = await publicationService.getWorkflow()
+      setWorkflow(response.data)
+    } catch (err) {
+      console.error('Failed to load workflow', err)
+    }
+  }
+
   const loadPublications = async () => {
     setLoading(true)
     setError(null)
@@ -41,6 +91,12 @@ function PublicationsTab() {
     }
   }
 
+  const upsertPublication = (publication) => {
+    setPublications(prev => prev.some(pub => pub.id === publication.id)
+      ? prev.map(pub => pub.id === publication.id ? publication : pub)
+      : [publication, ...prev])
+  }
+
   const loadAuthors = async () => {
     try {
       const response = await authorService.listAuthors(0, 100)
@@ -70,14 +126,14 @@ function PublicationsTab() {
     e.preventDefault()
     setError(null)
     try {
-      await publicationService.createPublication(formData)
+      const response = await publicationService.createPublication(formData)
       setFormData({
         title: '',
         content: '',
         authorId: ''
       })
       setShowForm(false)
-      await loadPublications()
+      upsertPublication(response.data)
     } catch (err) {
       setError(err.response?.data?.message || 'Failed to create publication')
     }
@@ -94,9 +150,10 @@ function PublicationsTab() {
         // Add rejection reason
       }
       
-      await publicationService.changeStatus(
+      const response = await publicationService.changeStatus(
         statusFormData.publicationId,
-        statusFormData.newStatus
+        statusFormData.newStatus,
+        statusFormData.editorName
       )
       
       setStatusFormData({
@@ -106,7 +163,7 @@ function PublicationsTab() {
         reviewComments: '',
         rejectionReason: ''
       })
-      await loadPublications()
+      upsertPublication(response.data)
     } catch (err) {
       setError(err.response?.data?.message || 'Failed to update publication status')
     }
@@ -201,7 +258,7 @@ function PublicationsTab() {
             <p className="pub-author">Author: {getAuthorName(pub.authorId)}</p>
             
             <div className="pub-content">
-              {pub.content.substring(0, 150)}...
+              {(pub.content || '').substring(0, 150)}...
             </div>
 
             {pub.author && (
@@ -211,62 +268,23 @@ function PublicationsTab() {
             )}
 
             <div className="pub-actions">
-              {pub.status === 'DRAFT' && (
-                <button 
-                  className="btn btn-warning"
-                  onClick={() => setStatusFormData({
-                    publicationId: pub.id,
-                    newStatus: 'IN_REVIEW',
-                    editorName: '',
-                    reviewComments: '',
-                    rejectionReason: ''
-                  })}
-                >
-                  Send to Review
-                </button>
-              )}
-              {pub.status === 'IN_REVIEW' && (
-                <div className="status-options">
-                  <button 
-                    className="btn btn-success"
-                    onClick={() => setStatusFormData({
-                      publicationId: pub.id,
-                      newStatus: 'APPROVED',
-                      editorName: '',
-                      reviewComments: '',
-                      rejectionReason: ''
-                    })}
-                  >
-                    Approve
-                  </button>
-                  <button 
-                    className="btn btn-danger"
+              <div className="status-options">
+                {(workflow[pub.status] || []).map(nextStatus => (
+                  <button
+                    key={nextStatus}
+                    className={`btn ${TRANSITION_ACTIONS[nextStatus]?.className || 'btn-secondary'}`}
                     onClick={() => setStatusFormData({
                       publicationId: pub.id,
-                      newStatus: 'REJECTED',
+                      newStatus: nextStatus,
                       editorName: '',
                       reviewComments: '',
                       rejectionReason: ''
                     })}
                   >
-                    Reject
+                    {TRANSITION_ACTIONS[nextStatus]?.label || nextStatus.replace(/_/g, ' ')}
                   </button>
-                </div>
-              )}
-              {pub.status === 'APPROVED' && (
-                <button 
-                  className="btn btn-success"
-                  onClick={() => setStatusFormData({
-                    publicationId: pub.id,
-                    newStatus: 'PUBLISHED',
-                    editorName: '',
-                    reviewComments: '',
-                    rejectionReason: ''
-                  })}
-                >
-                  Publish
-                </button>
-              )}
+                ))}
+              </div>
             </div>
 
             <div className="pub-meta">
@@ -299,7 +317,7 @@ function PublicationsTab() {
                   rows="4"
                 />
               )}
-              {statusFormData.newStatus === 'IN_REVIEW' && (
+              {['IN_REVIEW', 'APPROVED', 'REQUIRES_CHANGES', 'REJECTED'].includes(statusFormData.newStatus) && (
                 <input
                   type="text"
                   name="editorName"
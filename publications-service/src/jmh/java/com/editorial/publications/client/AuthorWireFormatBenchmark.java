@@ -0,0 +1,119 @@
+package com.editorial.publications.client;
+
+import com.editorial.publications.dto.AuthorInfoDTO;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Author payloads between authors-service and publications-service, encoded and decoded through the same
+ * Jackson message converters as RestClientConfig, as JSON and as CBOR. {@code count} 1 is the single-author
+ * lookup, larger counts a batch.
+ * Run with {@code mvn -Pbenchmarks test-compile exec:exec -Djmh.include=AuthorWireFormat}.
+ * <p>
+ * The bytes on the wire of each combination are printed when its trial starts. Authors are encoded with
+ * every property authors-service sends and decoded into AuthorInfoDTO, which keeps only the ones
+ * publications-service uses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthorWireFormatBenchmark {
+
+    private static final Type BATCH_TYPE = new ParameterizedTypeReference<List<AuthorInfoDTO>>() { }.getType();
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    @Param({"1", "50"})
+    private int count;
+
+    private AbstractJackson2HttpMessageConverter converter;
+    private MediaType mediaType;
+    private Object payload;
+    private Type payloadType;
+    private Type readType;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Boot's defaults for the Jackson builder the services inject
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("cbor".equals(format)) {
+            converter = new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+            mediaType = MediaType.APPLICATION_CBOR;
+        } else {
+            converter = new MappingJackson2HttpMessageConverter(builder.build());
+            mediaType = MediaType.APPLICATION_JSON;
+        }
+
+        List<AuthorPayload> authors = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            authors.add(author(id));
+        }
+        payload = count == 1 ? authors.get(0) : authors;
+        payloadType = count == 1 ? AuthorPayload.class : new ParameterizedTypeReference<List<AuthorPayload>>() { }
+                .getType();
+        readType = count == 1 ? AuthorInfoDTO.class : BATCH_TYPE;
+        encoded = encode();
+        System.out.printf("%n%s, %d author(s): %d bytes on the wire%n", format, count, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(payload, payloadType, mediaType, output);
+        return output.getBodyAsBytes();
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        MockHttpInputMessage input = new MockHttpInputMessage(encoded);
+        input.getHeaders().setContentType(mediaType);
+        return converter.read(readType, null, input);
+    }
+
+    private static AuthorPayload author(long id) {
+        LocalDateTime created = LocalDateTime.of(2024, 3, 1, 9, 30).plusDays(id);
+        return new AuthorPayload(id, "Gabriela", "Mistral Godoy", "autor" + id + "@editorial.example",
+                "Poeta, diplomática y educadora; autora de ensayos sobre pedagogía y de varias antologías.",
+                "Universidad de Chile", true, created, created.plusHours(6));
+    }
+
+    /**
+     * The properties of authors-service's AuthorDTO, as it writes them
+     */
+    public record AuthorPayload(Long id, String firstName, String lastName, String email, String biography,
+                                String organization, Boolean active, LocalDateTime createdAt,
+                                LocalDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.editorial.publications.workflow;
+
+import com.editorial.publications.entity.Publication;
+import com.editorial.publications.entity.PublicationStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The compiled BPMN workflow against the canChangeStatus switch and validator chain it replaced.
+ * Run with {@code mvn -Pbenchmarks test-compile exec:exec}.
+ * <p>
+ * The table benchmarks ask about every (from, to) pair. The check benchmarks run the full changeStatus
+ * check over every transition the workflow allows, on publications whose guards pass, so neither side
+ * pays for building an exception.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkflowTransitionBenchmark {
+
+    private static final PublicationStatus[] STATUSES = PublicationStatus.values();
+
+    private EditorialWorkflow workflow;
+    private Publication[] publications;
+    private PublicationStatus[] targets;
+
+    @Setup
+    public void setUp() {
+        workflow = new EditorialWorkflow(new ClassPathResource("bpmn/editorial-process.bpmn"));
+        List<Publication> sources = new ArrayList<>();
+        List<PublicationStatus> destinations = new ArrayList<>();
+        for (PublicationStatus from : STATUSES) {
+            for (PublicationStatus to : workflow.getNextStates().get(from)) {
+                sources.add(Publication.builder()
+                        .status(from)
+                        .content("Texto")
+                        .editorName("editor")
+                        .rejectionReason("Fuera de línea editorial")
+                        .reviewComments("Revisar la introducción")
+                        .build());
+                destinations.add(to);
+            }
+        }
+        publications = sources.toArray(new Publication[0]);
+        targets = destinations.toArray(new PublicationStatus[0]);
+    }
+
+    @Benchmark
+    public void compiledTable(Blackhole blackhole) {
+        for (PublicationStatus from : STATUSES) {
+            for (PublicationStatus to : STATUSES) {
+                blackhole.consume(workflow.canTransition(from, to));
+            }
+        }
+    }
+
+    @Benchmark
+    public void legacySwitch(Blackhole blackhole) {
+        for (PublicationStatus from : STATUSES) {
+            for (PublicationStatus to : STATUSES) {
+                blackhole.consume(LegacyTransitionRules.canChangeStatus(from, to));
+            }
+        }
+    }
+
+    @Benchmark
+    public void compiledCheck() {
+        for (int i = 0; i < publications.length; i++) {
+            workflow.checkTransition(publications[i], targets[i]);
+        }
+    }
+
+    @Benchmark
+    public void legacySwitchAndValidator() {
+        for (int i = 0; i < publications.length; i++) {
+            LegacyTransitionRules.checkTransition(publications[i], targets[i]);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.editorial.publications.admission;
+
+import com.editorial.publications.logging.RateLimitedLogger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control in front of the controllers: a per-client token bucket (429) followed by an
+ * adaptive concurrency limit (503), both answered immediately with Retry-After instead of letting
+ * requests queue in Tomcat until they time out. Requests marked "X-Priority: low" are shed
+ * before interactive ones.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+    public static final String PRIORITY_HEADER = "X-Priority";
+
+    private final RateLimitedLogger rateLimitedLog = new RateLimitedLogger(log, Duration.ofMinutes(1), 5);
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    public AdmissionControlFilter(ObjectMapper objectMapper,
+                                  @Value("${admission.enabled:true}") boolean enabled,
+                                  @Value("${admission.rate-limit.requests-per-second:50}") double requestsPerSecond,
+                                  @Value("${admission.rate-limit.burst:100}") int burst,
+                                  @Value("${admission.rate-limit.max-clients:10000}") int maxClients,
+                                  @Value("${admission.concurrency.initial-limit:50}") int initialLimit,
+                                  @Value("${admission.concurrency.min-limit:10}") int minLimit,
+                                  @Value("${admission.concurrency.max-limit:400}") int maxLimit,
+                                  @Value("${admission.concurrency.latency-tolerance:2.0}") double latencyTolerance) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.rateLimiter = new TokenBucketRateLimiter(requestsPerSecond, burst, maxClients);
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyTolerance);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Priority priority = "low".equalsIgnoreCase(request.getHeader(PRIORITY_HEADER)) ? Priority.LOW : Priority.NORMAL;
+
+        // Keyed on the address: a header chosen by the caller would let it mint a fresh bucket per request
+        long waitNanos = rateLimiter.tryAcquire(request.getRemoteAddr());
+        if (waitNanos > 0) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds(waitNanos),
+                    "Rate limit exceeded for client");
+            return;
+        }
+
+        if (!concurrencyLimiter.tryAcquire(priority)) {
+            rateLimitedLog.warn("shed", "Shedding {} request, in flight {} at limit {}",
+                    priority, concurrencyLimiter.getInFlight(), concurrencyLimiter.getLimit());
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Service is overloaded, retry later");
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Long-lived async responses say nothing about service time
+            concurrencyLimiter.release(System.nanoTime() - start, !request.isAsyncStarted());
+        }
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,24 @@
+package com.editorial.publications.admission;
+
+/**
+ * Request priority classes. Lower classes may only use part of the concurrency limit,
+ * so they are shed first as the limit shrinks.
+ */
+public enum Priority {
+    /** Trusted inter-service calls; no endpoint of this service is called by another one yet */
+    CRITICAL(1.0),
+    /** Interactive clients */
+    NORMAL(0.8),
+    /** Clients that mark themselves sheddable with "X-Priority: low" (batch jobs) */
+    LOW(0.5);
+
+    private final double limitShare;
+
+    Priority(double limitShare) {
+        this.limitShare = limitShare;
+    }
+
+    public double getLimitShare() {
+        return limitShare;
+    }
+}
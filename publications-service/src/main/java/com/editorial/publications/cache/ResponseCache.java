@@ -0,0 +1,124 @@
+package com.editorial.publications.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serialized list responses keyed by URI, query string and Accept header. Every write bumps a version
+ * counter after commit; entries stored under an older version are treated as misses, so invalidation
+ * is O(1). Entries also expire after {@code ttl}, which bounds staleness across instances.
+ */
+@Component
+public class ResponseCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Value("${response-cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${response-cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    @Value("${response-cache.max-entry-bytes:1048576}")
+    private int maxEntryBytes;
+
+    @Value("${response-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    public ResponseCache(MeterRegistry registry) {
+        this.hits = Counter.builder("response.cache.requests").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("response.cache.requests").tag("result", "miss").register(registry);
+        this.evictions = Counter.builder("response.cache.evictions").register(registry);
+        Gauge.builder("response.cache.entries", entries, Map::size).register(registry);
+        Gauge.builder("response.cache.bytes", totalBytes, AtomicLong::get).register(registry);
+    }
+
+    /**
+     * Version to store a response under; read before the response is computed
+     */
+    public long currentVersion() {
+        return version.get();
+    }
+
+    public Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.version() != version.get() || System.nanoTime() - entry.expiresAt() > 0) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry;
+    }
+
+    public void put(String key, long computedAtVersion, String contentType, byte[] body) {
+        if (body.length > maxEntryBytes || computedAtVersion != version.get()) {
+            return;
+        }
+        Entry entry = new Entry(computedAtVersion, System.nanoTime() + ttlMs * 1_000_000, contentType, body);
+        Entry previous = entries.put(key, entry);
+        totalBytes.addAndGet(body.length - (previous != null ? previous.body().length : 0));
+        if (entries.size() > maxEntries || totalBytes.get() > maxBytes) {
+            evict();
+        }
+    }
+
+    /**
+     * Invalidate every cached page once the current transaction (if any) commits
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        } else {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Drop outdated entries first, then arbitrary ones until back under both bounds
+     */
+    private synchronized void evict() {
+        long current = version.get();
+        long now = System.nanoTime();
+        entries.entrySet().removeIf(e -> {
+            Entry entry = e.getValue();
+            if (entry.version() != current || now - entry.expiresAt() > 0) {
+                release(entry);
+                return true;
+            }
+            return false;
+        });
+        Iterator<Entry> it = entries.values().iterator();
+        while ((entries.size() > maxEntries || totalBytes.get() > maxBytes) && it.hasNext()) {
+            release(it.next());
+            it.remove();
+        }
+    }
+
+    private void release(Entry entry) {
+        totalBytes.addAndGet(-entry.body().length);
+        evictions.increment();
+    }
+
+    public record Entry(long version, long expiresAt, String contentType, byte[] body) {
+    }
+}
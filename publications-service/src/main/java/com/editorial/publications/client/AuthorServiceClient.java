@@ -2,6 +2,7 @@ package com.editorial.publications.client;
 
 import com.editorial.publications.dto.AuthorInfoDTO;
 import com.editorial.publications.exception.AuthorServiceException;
+import com.editorial.publications.logging.RateLimitedLogger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,6 +10,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 /**
  * Adapter pattern: Adapts external Authors Service to Publications Service needs
  */
@@ -17,10 +20,13 @@ import org.springframework.web.client.RestTemplate;
 @RequiredArgsConstructor
 public class AuthorServiceClient {
 
+    // Only the properties AuthorInfoDTO maps, so authors-service skips the rest
+    private static final String AUTHOR_INFO_FIELDS = "id,firstName,lastName,email,organization";
+
     private final RestTemplate restTemplate;
+    private final HedgedRequestExecutor hedging;
 
-    @Value("${authors.service.url}")
-    private String authorsServiceUrl;
+    private final RateLimitedLogger rateLimitedLog = new RateLimitedLogger(log, Duration.ofMinutes(1), 5);
 
     @Value("${authors.service.timeout:5000}")
     private long timeout;
@@ -30,11 +36,11 @@ public class AuthorServiceClient {
      */
     public boolean authorExists(Long authorId) {
         try {
-            String url = authorsServiceUrl + "/authors/" + authorId + "/exists";
-            Boolean exists = restTemplate.getForObject(url, Boolean.class);
+            Boolean exists = hedging.execute(baseUrl ->
+                    restTemplate.getForObject(baseUrl + "/authors/" + authorId + "/exists", Boolean.class));
             return exists != null && exists;
         } catch (RestClientException e) {
-            log.warn("Failed to verify author existence for id: {}", authorId, e);
+            rateLimitedLog.warn("authorExists", "Failed to verify author existence for id: {}: {}", authorId, e.getMessage());
             throw new AuthorServiceException("Unable to verify author with id: " + authorId, e);
         }
     }
@@ -44,10 +50,10 @@ public class AuthorServiceClient {
      */
     public AuthorInfoDTO getAuthorInfo(Long authorId) {
         try {
-            String url = authorsServiceUrl + "/authors/" + authorId;
-            return restTemplate.getForObject(url, AuthorInfoDTO.class);
+            return hedging.execute(baseUrl -> restTemplate.getForObject(
+                    baseUrl + "/authors/" + authorId + "?fields=" + AUTHOR_INFO_FIELDS, AuthorInfoDTO.class));
         } catch (RestClientException e) {
-            log.warn("Failed to fetch author info for id: {}", authorId, e);
+            rateLimitedLog.warn("getAuthorInfo", "Failed to fetch author info for id: {}: {}", authorId, e.getMessage());
             throw new AuthorServiceException("Unable to fetch author with id: " + authorId, e);
         }
     }
@@ -0,0 +1,30 @@
+package com.editorial.publications.client;
+
+/**
+ * Caps hedged requests at a percentage of all requests: every request deposits percent/100 of a token,
+ * every hedge spends a whole one. The balance is bounded, so a long quiet spell cannot be saved up and
+ * then spent doubling the load during an outage.
+ */
+class HedgeBudget {
+
+    private final double perRequest;
+    private final double maxTokens;
+    private double tokens;
+
+    HedgeBudget(double percent, double maxTokens) {
+        this.perRequest = percent / 100.0;
+        this.maxTokens = maxTokens;
+    }
+
+    synchronized void onRequest() {
+        tokens = Math.min(maxTokens, tokens + perRequest);
+    }
+
+    synchronized boolean tryAcquire() {
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+}
@@ -0,0 +1,135 @@
+package com.editorial.publications.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Hedged requests against authors-service. A call that has not answered within the observed latency
+ * percentile is sent a second time, to the hedge URL when one is configured (otherwise the load balancer
+ * picks the instance); the first successful response wins and the other request is cancelled.
+ * Only for idempotent reads. Disabled, calls run on the caller's thread as before.
+ */
+@Component
+public class HedgedRequestExecutor {
+
+    private final boolean enabled;
+    private final String primaryUrl;
+    private final String hedgeUrl;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final LatencyHistogram latencies;
+    private final HedgeBudget budget;
+    private final ExecutorService pool;
+    private final Counter hedged;
+    private final Counter hedgeWins;
+
+    public HedgedRequestExecutor(MeterRegistry registry,
+                                 @Value("${authors.service.url}") String primaryUrl,
+                                 @Value("${authors.service.hedging.enabled:false}") boolean enabled,
+                                 @Value("${authors.service.hedging.url:}") String hedgeUrl,
+                                 @Value("${authors.service.hedging.percentile:0.95}") double percentile,
+                                 @Value("${authors.service.hedging.min-delay:5ms}") Duration minDelay,
+                                 @Value("${authors.service.hedging.window:30s}") Duration window,
+                                 @Value("${authors.service.hedging.min-samples:100}") int minSamples,
+                                 @Value("${authors.service.hedging.budget-percent:5}") double budgetPercent,
+                                 @Value("${authors.service.hedging.max-burst:10}") double maxBurst) {
+        this.enabled = enabled;
+        this.primaryUrl = primaryUrl;
+        this.hedgeUrl = hedgeUrl.isBlank() ? primaryUrl : hedgeUrl;
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.latencies = new LatencyHistogram(window.toNanos(), minSamples);
+        this.budget = new HedgeBudget(budgetPercent, maxBurst);
+        this.pool = enabled ? Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "author-hedge");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        this.hedged = Counter.builder("authors.client.hedged").register(registry);
+        this.hedgeWins = Counter.builder("authors.client.hedge.wins").register(registry);
+    }
+
+    /**
+     * Run {@code call} with the base URL of the instance to ask; may run it twice concurrently
+     */
+    public <T> T execute(Function<String, T> call) {
+        if (!enabled) {
+            return call.apply(primaryUrl);
+        }
+        budget.onRequest();
+        CompletionService<T> attempts = new ExecutorCompletionService<>(pool);
+        List<Future<T>> started = new ArrayList<>(2);
+        long start = System.nanoTime();
+        Future<T> primary = attempts.submit(() -> call.apply(primaryUrl));
+        started.add(primary);
+        try {
+            long delay = latencies.percentile(percentile);
+            Future<T> first = delay < 0 ? null : attempts.poll(Math.max(delay, minDelayNanos), TimeUnit.NANOSECONDS);
+            if (first == null && delay >= 0 && budget.tryAcquire()) {
+                hedged.increment();
+                started.add(attempts.submit(() -> call.apply(hedgeUrl)));
+            }
+            // First success wins; a failed attempt only fails the call once the other one has failed too
+            RuntimeException failure = null;
+            Future<T> done = first;
+            for (int remaining = started.size(); ; remaining--) {
+                if (done == null) {
+                    done = attempts.take();
+                }
+                try {
+                    T result = done.get();
+                    if (done != primary) {
+                        hedgeWins.increment();
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    failure = failure != null ? failure : unwrap(e);
+                    if (remaining <= 1) {
+                        throw failure;
+                    }
+                }
+                done = null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for authors-service");
+        } finally {
+            // One sample per call, measured on the primary: its latency when it won, otherwise the time it was
+            // waited for. Recording only finished attempts would drop the slow primaries that lost to a hedge
+            // and pull the percentile, and so the hedge delay, down window after window.
+            latencies.record(System.nanoTime() - start);
+            // The loser is interrupted; the JDK HttpClient aborts the exchange instead of reading it out
+            started.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new ResourceAccessException("Author lookup failed: " + e.getCause());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.editorial.publications.client;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Rolling latency histogram with logarithmic buckets (about 10% wide). Samples land in the current window;
+ * percentiles are read over the current and the previous window, so the estimate follows recent behaviour
+ * without dropping to nothing right after a rotation.
+ */
+class LatencyHistogram {
+
+    private static final long BASE_MICROS = 50;
+    private static final double GROWTH = 1.1;
+    private static final int BUCKETS = 192;
+
+    private final long windowNanos;
+    private final int minSamples;
+    private volatile AtomicLongArray current = new AtomicLongArray(BUCKETS);
+    private volatile AtomicLongArray previous = new AtomicLongArray(BUCKETS);
+    private volatile long windowStart = System.nanoTime();
+
+    LatencyHistogram(long windowNanos, int minSamples) {
+        this.windowNanos = windowNanos;
+        this.minSamples = minSamples;
+    }
+
+    void record(long nanos) {
+        rotateIfDue();
+        current.incrementAndGet(bucketOf(nanos / 1000));
+    }
+
+    /**
+     * Upper bound of the bucket holding the given quantile, in nanoseconds; -1 until enough samples were seen
+     */
+    long percentile(double quantile) {
+        rotateIfDue();
+        AtomicLongArray now = current;
+        AtomicLongArray before = previous;
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = now.get(i) + before.get(i);
+            total += counts[i];
+        }
+        if (total < minSamples) {
+            return -1;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBoundMicros(i) * 1000;
+            }
+        }
+        return upperBoundMicros(BUCKETS - 1) * 1000;
+    }
+
+    private void rotateIfDue() {
+        if (System.nanoTime() - windowStart < windowNanos) {
+            return;
+        }
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (now - windowStart < windowNanos) {
+                return;
+            }
+            // A whole idle window means the previous one is stale as well
+            previous = now - windowStart < 2 * windowNanos ? current : new AtomicLongArray(BUCKETS);
+            current = new AtomicLongArray(BUCKETS);
+            windowStart = now;
+        }
+    }
+
+    private static int bucketOf(long micros) {
+        if (micros <= BASE_MICROS) {
+            return 0;
+        }
+        int bucket = (int) Math.ceil(Math.log((double) micros / BASE_MICROS) / Math.log(GROWTH));
+        return Math.min(bucket, BUCKETS - 1);
+    }
+
+    private static long upperBoundMicros(int bucket) {
+        return (long) Math.ceil(BASE_MICROS * Math.pow(GROWTH, bucket));
+    }
+}
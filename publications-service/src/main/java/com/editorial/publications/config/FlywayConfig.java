@@ -0,0 +1,44 @@
+package com.editorial.publications.config;
+
+import com.editorial.publications.sharding.ShardRoutingDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * Checked at runtime rather than through spring.flyway.enabled, which AOT processing fixes at build time;
+     * the Dockerfile's CDS training run starts the context without a database.
+     * With shards, every shard is migrated with the same configuration, then their id sequences are aligned.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${migrations.run-on-startup:true}") boolean runOnStartup,
+            ObjectProvider<ShardRoutingDataSource> shards) {
+        return flyway -> {
+            if (!runOnStartup) {
+                return;
+            }
+            ShardRoutingDataSource routing = shards.getIfAvailable();
+            if (routing == null) {
+                flyway.migrate();
+                return;
+            }
+            for (DataSource shard : routing.getShards().values()) {
+                Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .dataSource(shard)
+                        .load()
+                        .migrate();
+            }
+            routing.alignIdSequences();
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.editorial.publications.config;
+
+import com.editorial.publications.dto.FieldSelection;
+import com.editorial.publications.dto.PublicationDTO;
+import com.editorial.publications.dto.StreamedContent;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.Reader;
+import java.util.List;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * DTOs carry @JsonFilter for sparse fieldsets; without ?fields= every property is written
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilter() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(FieldSelection.FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    /**
+     * PublicationDTO.content is written from the DTO's StreamedContent when it has one, so compressed
+     * content goes from the decompressor into the JSON string without a String copy of the document
+     */
+    @Bean
+    public Module streamedContentModule() {
+        SimpleModule module = new SimpleModule("streamed-content");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription description,
+                                                             List<BeanPropertyWriter> properties) {
+                if (description.getBeanClass() != PublicationDTO.class) {
+                    return properties;
+                }
+                return properties.stream()
+                        .map(property -> "content".equals(property.getName())
+                                ? new StreamedContentWriter(property) : property)
+                        .toList();
+            }
+        });
+        return module;
+    }
+
+    private static final class StreamedContentWriter extends BeanPropertyWriter {
+
+        private StreamedContentWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider provider) throws Exception {
+            StreamedContent streamed = ((PublicationDTO) bean).getStreamedContent();
+            if (streamed == null) {
+                super.serializeAsField(bean, gen, provider);
+                return;
+            }
+            gen.writeFieldName(_name);
+            try (Reader reader = streamed.open()) {
+                gen.writeString(reader, -1);
+            }
+        }
+    }
+}
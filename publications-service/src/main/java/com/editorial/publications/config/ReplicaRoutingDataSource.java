@@ -0,0 +1,193 @@
+package com.editorial.publications.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions to a healthy replica and everything else to the primary.
+ * Replicas are balanced round-robin; a replica that fails its health check or lags more than
+ * {@code maxLagMs} is skipped until it recovers. After a write the caller sticks to the primary
+ * for {@code readYourWrites} so it always sees its own changes.
+ * Must be wrapped in a LazyConnectionDataSourceProxy so the connection is only fetched once
+ * the transaction's read-only flag is known.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String STICKY_COOKIE = "primary-until";
+
+    private static final String PRIMARY = "primary";
+
+    // Only a streaming standby qualifies: a primary, or a standby whose WAL receiver has stopped, has replayed
+    // everything it received and would report no lag while serving ever older data. The lag is measured from
+    // the last replayed commit only while WAL is still waiting to be replayed, since on a quiet primary that
+    // commit can be old without the replica being behind
+    private static final String HEALTH_QUERY = """
+            SELECT pg_is_in_recovery(),
+                   EXISTS (SELECT 1 FROM pg_stat_wal_receiver),
+                   CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END
+            """;
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+    private final long maxLagMs;
+    private final Duration readYourWrites;
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    long maxLagMs, Duration readYourWrites, Duration healthCheckInterval) {
+        this.replicas = replicas;
+        this.replicaKeys = new ArrayList<>(replicas.keySet());
+        this.maxLagMs = maxLagMs;
+        this.readYourWrites = readYourWrites;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0,
+                healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Pin the current thread to the primary (set by ReadYourWritesFilter from the sticky cookie)
+     */
+    public static void forcePrimary(boolean force) {
+        if (force) {
+            FORCE_PRIMARY.set(Boolean.TRUE);
+        } else {
+            FORCE_PRIMARY.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteCallback();
+            return PRIMARY;
+        }
+        if (Boolean.TRUE.equals(FORCE_PRIMARY.get()) || healthyReplicas.isEmpty()) {
+            return PRIMARY;
+        }
+        for (int attempt = 0; attempt < replicaKeys.size(); attempt++) {
+            String key = replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+            if (healthyReplicas.contains(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * After a write commits within a request, keep the rest of the request and the calling client on the primary
+     */
+    private void registerWriteCallback() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || readYourWrites.isZero()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+                    FORCE_PRIMARY.set(Boolean.TRUE);
+                    HttpServletResponse response = attributes.getResponse();
+                    if (response != null && !response.isCommitted()) {
+                        long until = System.currentTimeMillis() + readYourWrites.toMillis();
+                        Cookie cookie = new Cookie(STICKY_COOKIE, Long.toString(until));
+                        cookie.setPath("/");
+                        cookie.setHttpOnly(true);
+                        cookie.setMaxAge((int) Math.max(1, readYourWrites.toSeconds()));
+                        response.addCookie(cookie);
+                    }
+                }
+            }
+        });
+    }
+
+    private void checkReplicas() {
+        for (String key : replicaKeys) {
+            String problem;
+            try (Connection connection = replicas.get(key).getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(HEALTH_QUERY)) {
+                problem = rs.next() ? healthProblem(rs) : "returned no health check result";
+            } catch (Exception e) {
+                problem = "failed health check: " + e.getMessage();
+            }
+            boolean healthy = problem == null;
+            if (!healthy) {
+                log.debug("Replica {} {}", key, problem);
+            }
+            boolean changed = healthy ? healthyReplicas.add(key) : healthyReplicas.remove(key);
+            if (changed) {
+                log.info("Replica {} is now {}", key, healthy ? "in rotation" : "out of rotation: " + problem);
+            }
+        }
+    }
+
+    /**
+     * Why the replica must not serve reads, or null when it is a streaming standby within maxLagMs
+     */
+    private String healthProblem(ResultSet rs) throws SQLException {
+        if (!rs.getBoolean(1)) {
+            return "is not in recovery, so it is not a replica";
+        }
+        if (!rs.getBoolean(2)) {
+            return "has no running WAL receiver";
+        }
+        long lagMs = rs.getLong(3);
+        if (rs.wasNull()) {
+            return "has not replayed any transaction yet";
+        }
+        return lagMs > maxLagMs ? "lags " + lagMs + " ms behind primary" : null;
+    }
+
+    @Override
+    public void destroy() {
+        healthChecker.shutdownNow();
+        for (DataSource dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.debug("Failed to close data source: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
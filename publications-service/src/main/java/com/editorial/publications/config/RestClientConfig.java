@@ -1,20 +1,49 @@
 package com.editorial.publications.config;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Duration;
+import java.util.List;
 
 @Configuration
 public class RestClientConfig {
 
+    @Value("${authors.service.wire-format:cbor}")
+    private String wireFormat;
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
     @Bean
     public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder
+        RestTemplateBuilder configured = builder
+                // java.net.http aborts a request when its thread is interrupted, which hedging relies on
+                .requestFactory(JdkClientHttpRequestFactory.class)
                 .setConnectTimeout(Duration.ofSeconds(5))
                 .setReadTimeout(Duration.ofSeconds(5))
-                .build();
+                // Lets authors-service admission control recognise and prioritise these calls
+                .defaultHeader("X-Client-Id", applicationName);
+        if ("cbor".equalsIgnoreCase(wireFormat)) {
+            // Prefer the binary format, JSON remains acceptable for older authors-service instances
+            configured = configured.additionalInterceptors((request, body, execution) -> {
+                request.getHeaders().setAccept(List.of(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON));
+                return execution.execute(request, body);
+            });
+        }
+        return configured.build();
     }
 }
@@ -0,0 +1,30 @@
+package com.editorial.publications.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryInformation;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * With spring.main.lazy-initialization (profile "fast") everything off the request path is created on
+     * first use; controllers, services and repositories stay eager so the first request does not pay for them,
+     * and migrations still run before the application reports ready.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter hotPathBeans() {
+        return (beanName, beanDefinition, beanType) ->
+                AnnotatedElementUtils.hasAnnotation(beanType, RestController.class)
+                        || AnnotatedElementUtils.hasAnnotation(beanType, Service.class)
+                        || Repository.class.isAssignableFrom(beanType)
+                        || RepositoryFactoryInformation.class.isAssignableFrom(beanType)
+                        || FlywayMigrationInitializer.class.isAssignableFrom(beanType);
+    }
+}
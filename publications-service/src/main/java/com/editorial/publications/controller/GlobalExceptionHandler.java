@@ -1,14 +1,17 @@
 package com.editorial.publications.controller;
 
 import com.editorial.publications.exception.*;
+import com.editorial.publications.logging.RateLimitedLogger;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,31 +20,60 @@ import java.util.Map;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private final RateLimitedLogger rateLimitedLog = new RateLimitedLogger(log, Duration.ofMinutes(1), 5);
+
     @ExceptionHandler(PublicationNotFoundException.class)
     public ResponseEntity<Map<String, Object>> handlePublicationNotFound(PublicationNotFoundException ex) {
-        log.warn("Publication not found: {}", ex.getMessage());
+        log.debug("Publication not found: {}", ex.getMessage());
         return buildErrorResponse(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage());
     }
 
     @ExceptionHandler(AuthorNotFoundException.class)
     public ResponseEntity<Map<String, Object>> handleAuthorNotFound(AuthorNotFoundException ex) {
-        log.warn("Author not found: {}", ex.getMessage());
+        log.debug("Author not found: {}", ex.getMessage());
         return buildErrorResponse(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage());
     }
 
     @ExceptionHandler(AuthorServiceException.class)
     public ResponseEntity<Map<String, Object>> handleAuthorServiceException(AuthorServiceException ex) {
-        log.error("Author service error: {}", ex.getMessage());
+        rateLimitedLog.error("author-service", "Author service error: {}", ex.getMessage());
         return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", 
                                  "Unable to connect to Authors Service: " + ex.getMessage());
     }
 
     @ExceptionHandler(PublicationInvalidStateException.class)
     public ResponseEntity<Map<String, Object>> handleInvalidState(PublicationInvalidStateException ex) {
-        log.warn("Invalid publication state: {}", ex.getMessage());
+        log.debug("Invalid publication state: {}", ex.getMessage());
         return buildErrorResponse(HttpStatus.BAD_REQUEST, "Invalid State", ex.getMessage());
     }
 
+    @ExceptionHandler(InvalidFieldSelectionException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidFieldSelection(InvalidFieldSelectionException ex) {
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage());
+    }
+
+    @ExceptionHandler(ContentTooLargeException.class)
+    public ResponseEntity<Map<String, Object>> handleContentTooLarge(ContentTooLargeException ex) {
+        return buildErrorResponse(HttpStatus.PAYLOAD_TOO_LARGE, "Payload Too Large", ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidPatch(InvalidPatchException ex) {
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage());
+    }
+
+    @ExceptionHandler(PublicationVersionMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleVersionMismatch(PublicationVersionMismatchException ex) {
+        return buildErrorResponse(HttpStatus.PRECONDITION_FAILED, "Precondition Failed", ex.getMessage());
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLock(ObjectOptimisticLockingFailureException ex) {
+        log.debug("Concurrent publication edit: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT, "Conflict",
+                                 "The publication was modified concurrently, reload it and retry");
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -61,7 +93,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
-        log.error("Unexpected error", ex);
+        rateLimitedLog.error(ex.getClass().getName(), "Unexpected error", ex);
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
                                  "An unexpected error occurred");
     }
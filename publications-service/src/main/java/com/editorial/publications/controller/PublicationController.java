@@ -1,44 +1,83 @@
 package com.editorial.publications.controller;
 
+import com.editorial.publications.dto.AuthorPublicationStatsDTO;
+import com.editorial.publications.dto.FieldSelection;
 import com.editorial.publications.dto.PublicationDTO;
+import com.editorial.publications.dto.WorkflowTransitionDTO;
 import com.editorial.publications.entity.PublicationStatus;
+import com.editorial.publications.exception.PublicationVersionMismatchException;
+import com.editorial.publications.service.PublicationContent;
+import com.editorial.publications.service.PublicationContentStore;
+import com.editorial.publications.service.PublicationEventStream;
 import com.editorial.publications.service.PublicationService;
+import com.editorial.publications.service.PublicationStatsService;
+import com.editorial.publications.service.ReviewQueueService;
+import com.editorial.publications.workflow.EditorialWorkflow;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/publications")
-@Slf4j
 @RequiredArgsConstructor
 public class PublicationController {
 
     private final PublicationService publicationService;
+    private final PublicationEventStream eventStream;
+    private final PublicationStatsService statsService;
+    private final PublicationContentStore contentStore;
+    private final EditorialWorkflow workflow;
+    private final ReviewQueueService reviewQueueService;
+
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
+    @Value("${publications.content.gzip-min-size:1024}")
+    private long gzipMinSize;
 
     @PostMapping
     public ResponseEntity<PublicationDTO> createPublication(@Valid @RequestBody PublicationDTO dto) {
-        log.info("Creating publication: {}", dto.getTitle());
         PublicationDTO created = publicationService.createPublication(dto);
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<PublicationDTO> getPublication(@PathVariable Long id) {
-        log.info("Fetching publication: {}", id);
-        PublicationDTO publication = publicationService.getPublicationById(id);
+    public ResponseEntity<PublicationDTO> getPublication(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields) {
+        PublicationDTO publication = publicationService.getPublicationById(id,
+                FieldSelection.parse(fields, PublicationDTO.FIELDS));
         return ResponseEntity.ok(publication);
     }
 
     @GetMapping
     public ResponseEntity<Page<PublicationDTO>> listPublications(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        log.info("Listing publications - page: {}, size: {}", page, size);
-        Page<PublicationDTO> publications = publicationService.listPublications(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields) {
+        Page<PublicationDTO> publications = publicationService.listPublications(page, size,
+                FieldSelection.parse(fields, PublicationDTO.FIELDS));
         return ResponseEntity.ok(publications);
     }
 
@@ -47,17 +86,203 @@ public class PublicationController {
             @PathVariable Long authorId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        log.info("Listing publications by author: {} - page: {}, size: {}", authorId, page, size);
         Page<PublicationDTO> publications = publicationService.listPublicationsByAuthor(authorId, page, size);
         return ResponseEntity.ok(publications);
     }
 
+    @GetMapping("/author/{authorId}/stats")
+    public ResponseEntity<AuthorPublicationStatsDTO> getAuthorStats(@PathVariable Long authorId) {
+        return ResponseEntity.ok(statsService.getStats(authorId));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<AuthorPublicationStatsDTO>> getAuthorsStats(@RequestParam List<Long> authorIds) {
+        return ResponseEntity.ok(statsService.getStats(authorIds));
+    }
+
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<Integer> rebuildStats() {
+        return ResponseEntity.ok(statsService.rebuild());
+    }
+
+    /**
+     * JSON Merge Patch of the editable fields. The response ETag is the new version; sending it back in If-Match
+     * makes the next edit fail with 412 if someone else changed the publication in between
+     */
+    @PatchMapping(path = "/{id}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<PublicationDTO> patchPublication(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        PublicationDTO updated = publicationService.patchPublication(id, patch, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag("\"" + updated.getVersion() + "\"").body(updated);
+    }
+
+    /**
+     * Move a publication through the workflow; editorName identifies the editor deciding a claimed review
+     */
     @PatchMapping("/{id}/status")
     public ResponseEntity<PublicationDTO> changeStatus(
             @PathVariable Long id,
-            @RequestParam PublicationStatus status) {
-        log.info("Changing publication status: id={}, newStatus={}", id, status);
-        PublicationDTO updated = publicationService.changeStatus(id, status);
+            @RequestParam PublicationStatus status,
+            @RequestParam(required = false) String editorName) {
+        PublicationDTO updated = publicationService.changeStatus(id, status, editorName);
         return ResponseEntity.ok(updated);
     }
+
+    /**
+     * Claim the next unassigned IN_REVIEW publications (oldest first) for an editor
+     */
+    @PostMapping("/review-queue/claim")
+    public ResponseEntity<List<PublicationDTO>> claimForReview(
+            @RequestParam String editorName,
+            @RequestParam(defaultValue = "1") int count) {
+        return ResponseEntity.ok(reviewQueueService.claim(editorName, count));
+    }
+
+    @PostMapping("/review-queue/{id}/release")
+    public ResponseEntity<Void> releaseReviewClaim(@PathVariable Long id, @RequestParam String editorName) {
+        reviewQueueService.release(id, editorName);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PatchMapping("/{id}/publish-at")
+    public ResponseEntity<PublicationDTO> schedulePublication(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime publishAt) {
+        return ResponseEntity.ok(publicationService.schedulePublication(id, publishAt));
+    }
+
+    @GetMapping("/{id}/next-states")
+    public ResponseEntity<List<WorkflowTransitionDTO>> getNextStates(@PathVariable Long id) {
+        return ResponseEntity.ok(publicationService.getNextStates(id));
+    }
+
+    @GetMapping("/workflow")
+    public ResponseEntity<Map<PublicationStatus, Set<PublicationStatus>>> getWorkflow() {
+        return ResponseEntity.ok(workflow.getNextStates());
+    }
+
+    /**
+     * Replace the manuscript with the raw UTF-8 request body, streamed straight into chunk storage
+     */
+    @PutMapping("/{id}/content")
+    public ResponseEntity<Void> uploadContent(@PathVariable Long id, InputStream body) throws IOException {
+        PublicationContent content = contentStore.write(id, body);
+        return ResponseEntity.noContent().eTag(content.getETag()).build();
+    }
+
+    /**
+     * Stream the manuscript as text/plain; supports a single Range, If-Range, conditional GET and gzip
+     */
+    @GetMapping("/{id}/content")
+    public void downloadContent(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        PublicationContent content = contentStore.open(id);
+        long length = content.getLength();
+        HttpRange range = requestedRange(request, content.getETag());
+        boolean gzip = range == null && length >= gzipMinSize && acceptsGzip(request);
+
+        // The gzip representation needs its own strong validator
+        String eTag = gzip ? content.getETag().replaceFirst("\"$", "-gzip\"") : content.getETag();
+        if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+            return;
+        }
+        response.setContentType("text/plain;charset=UTF-8");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        boolean head = HttpMethod.HEAD.matches(request.getMethod());
+
+        if (range != null) {
+            long start;
+            long end;
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            response.setContentLengthLong(end - start + 1);
+            if (!head) {
+                contentStore.copyRange(content, start, end, response.getOutputStream());
+            }
+            return;
+        }
+
+        if (gzip) {
+            // Compressed size is unknown up front, so this response is sent chunked
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            if (!head) {
+                try (GZIPOutputStream out = new GZIPOutputStream(response.getOutputStream(), 8192)) {
+                    contentStore.copyRange(content, 0, length - 1, out);
+                }
+            }
+            return;
+        }
+
+        response.setContentLengthLong(length);
+        if (!head && length > 0) {
+            contentStore.copyRange(content, 0, length - 1, response.getOutputStream());
+        }
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) PublicationStatus status) {
+        return eventStream.subscribe(authorId, status);
+    }
+
+    /**
+     * The single range to serve, or null for the full content (no Range, stale If-Range, multiple or malformed ranges)
+     */
+    private static HttpRange requestedRange(HttpServletRequest request, String eTag) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(eTag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Version named by If-Match ("3" or W/"3"), or null when absent or *
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim().replaceFirst("^W/", "").replace("\"", "");
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            throw new PublicationVersionMismatchException("If-Match does not name a publication version: " + ifMatch);
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (header == null) {
+            return false;
+        }
+        for (String coding : header.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return !(parts.length > 1 && parts[1].trim().matches("q=0(\\.0*)?"));
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,176 @@
+package com.editorial.publications.diagnostics;
+
+import com.editorial.publications.logging.RateLimitedLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-request accounting of the SQL statements Hibernate issues. QueryInspector reports every prepared
+ * statement, QueryTimingListener its execution time, and QueryDiagnosticsFilter brackets each request.
+ * The result is a statement count per endpoint, a log and buffer of slow statement shapes, and a warning
+ * when one request executes the same select shape over and over (the N+1 pattern).
+ * Statements run on other threads, such as a shard scatter, are not attributed to the request.
+ */
+@Component
+@Slf4j
+public class QueryDiagnostics {
+
+    // QueryTimingListener is instantiated by Hibernate, not Spring, and finds the bean here
+    private static volatile QueryDiagnostics instance;
+
+    private final MeterRegistry registry;
+    private final Counter slowStatements;
+    private final ThreadLocal<RequestQueries> requests = new ThreadLocal<>();
+    private final ThreadLocal<String> lastShape = new ThreadLocal<>();
+    private final Deque<SlowQuery> slowQueries = new ArrayDeque<>();
+    private final RateLimitedLogger rateLimitedLog = new RateLimitedLogger(log, Duration.ofMinutes(1), 5);
+
+    @Value("${diagnostics.queries.enabled:true}")
+    private boolean enabled;
+
+    @Value("${diagnostics.queries.slow-threshold:200ms}")
+    private Duration slowThreshold;
+
+    @Value("${diagnostics.queries.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    @Value("${diagnostics.queries.max-slow-queries:50}")
+    private int maxSlowQueries;
+
+    public QueryDiagnostics(MeterRegistry registry) {
+        this.registry = registry;
+        this.slowStatements = Counter.builder("db.statements.slow").register(registry);
+    }
+
+    @PostConstruct
+    void register() {
+        instance = enabled ? this : null;
+    }
+
+    static QueryDiagnostics get() {
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    void beginRequest(HttpServletRequest request) {
+        requests.set(new RequestQueries(request));
+    }
+
+    /**
+     * Record the request's statement count under its endpoint and warn about repeated select shapes
+     */
+    void endRequest() {
+        RequestQueries queries = requests.get();
+        requests.remove();
+        lastShape.remove();
+        if (queries == null) {
+            return;
+        }
+        String endpoint = queries.endpoint();
+        DistributionSummary.builder("db.statements.per.request")
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(queries.total);
+        queries.shapes.forEach((shape, count) -> {
+            if (count >= nPlusOneThreshold && QueryShapes.isSelect(shape)) {
+                Counter.builder("db.statements.n_plus_one").tag("endpoint", endpoint).register(registry).increment();
+                rateLimitedLog.warn("n+1 " + endpoint, "Possible N+1 on {}: {} executions of {}",
+                        endpoint, count, shape);
+            }
+        });
+    }
+
+    void onPrepared(String sql) {
+        String shape = QueryShapes.of(sql);
+        lastShape.set(shape);
+        RequestQueries queries = requests.get();
+        if (queries != null) {
+            queries.add(shape);
+        }
+    }
+
+    /**
+     * Statements prepared so far by the request on this thread; -1 outside a request
+     */
+    int statementCount() {
+        RequestQueries queries = requests.get();
+        return queries != null ? queries.total : -1;
+    }
+
+    /**
+     * Execution time of the statement most recently prepared on this thread
+     */
+    void onExecuted(long nanos) {
+        if (nanos < slowThreshold.toNanos()) {
+            return;
+        }
+        String shape = lastShape.get();
+        RequestQueries queries = requests.get();
+        String endpoint = queries != null ? queries.endpoint() : Thread.currentThread().getName();
+        long millis = nanos / 1_000_000;
+        slowStatements.increment();
+        rateLimitedLog.warn("slow " + endpoint, "Slow SQL on {} ({} ms): {}", endpoint, millis, shape);
+        synchronized (slowQueries) {
+            if (slowQueries.size() >= maxSlowQueries) {
+                slowQueries.pollFirst();
+            }
+            slowQueries.addLast(new SlowQuery(Instant.now(), millis, endpoint, shape));
+        }
+    }
+
+    public List<SlowQuery> getSlowQueries() {
+        synchronized (slowQueries) {
+            return List.copyOf(slowQueries);
+        }
+    }
+
+    public void clearSlowQueries() {
+        synchronized (slowQueries) {
+            slowQueries.clear();
+        }
+    }
+
+    public record SlowQuery(Instant at, long millis, String endpoint, String shape) {
+    }
+
+    private static final class RequestQueries {
+        private final HttpServletRequest request;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int total;
+
+        private RequestQueries(HttpServletRequest request) {
+            this.request = request;
+        }
+
+        private void add(String shape) {
+            shapes.merge(shape, 1, Integer::sum);
+            total++;
+        }
+
+        /**
+         * Method and mapped pattern, e.g. "GET /publications/{id}"; known once the handler has been resolved
+         */
+        private String endpoint() {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            return request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.editorial.publications.diagnostics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(value = "diagnostics.queries.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryDiagnosticsConfig {
+
+    /**
+     * Hooks QueryDiagnostics into Hibernate: the inspector sees each statement, the listener times it
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryDiagnosticsCustomizer(QueryDiagnostics diagnostics) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryInspector(diagnostics));
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryTimingListener.class.getName());
+        };
+    }
+}
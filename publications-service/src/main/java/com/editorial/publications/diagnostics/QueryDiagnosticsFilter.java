@@ -0,0 +1,41 @@
+package com.editorial.publications.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Scopes QueryDiagnostics statement counting to one request. Runs after the response cache,
+ * so cache hits are not counted as requests without statements.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+@RequiredArgsConstructor
+public class QueryDiagnosticsFilter extends OncePerRequestFilter {
+
+    private final QueryDiagnostics diagnostics;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !diagnostics.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        diagnostics.beginRequest(request);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            diagnostics.endRequest();
+        }
+    }
+}
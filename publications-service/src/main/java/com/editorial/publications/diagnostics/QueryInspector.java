@@ -0,0 +1,19 @@
+package com.editorial.publications.diagnostics;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Sees every SQL string Hibernate prepares, JPQL, Criteria and native alike; returns it unchanged
+ */
+@RequiredArgsConstructor
+class QueryInspector implements StatementInspector {
+
+    private final QueryDiagnostics diagnostics;
+
+    @Override
+    public String inspect(String sql) {
+        diagnostics.onPrepared(sql);
+        return sql;
+    }
+}
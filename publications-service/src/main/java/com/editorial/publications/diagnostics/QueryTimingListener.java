@@ -0,0 +1,39 @@
+package com.editorial.publications.diagnostics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Times JDBC executions for the slow statement log. One instance per Hibernate session, registered by
+ * class name through hibernate.session.events.auto.
+ */
+public class QueryTimingListener extends BaseSessionEventListener {
+
+    private long start;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        start = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        executed();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        start = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        executed();
+    }
+
+    private void executed() {
+        QueryDiagnostics diagnostics = QueryDiagnostics.get();
+        if (diagnostics != null) {
+            diagnostics.onExecuted(System.nanoTime() - start);
+        }
+    }
+}
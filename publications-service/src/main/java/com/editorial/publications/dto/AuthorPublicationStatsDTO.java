@@ -0,0 +1,21 @@
+package com.editorial.publications.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthorPublicationStatsDTO {
+    private Long authorId;
+    private long drafts;
+    private long inReview;
+    private long approved;
+    private long published;
+    private long rejected;
+    private long requiresChanges;
+    private long total;
+}
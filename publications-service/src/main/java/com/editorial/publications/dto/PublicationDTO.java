@@ -1,6 +1,8 @@
 package com.editorial.publications.dto;
 
 import com.editorial.publications.entity.PublicationStatus;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,13 +10,24 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import jakarta.validation.constraints.*;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonFilter(FieldSelection.FILTER_ID)
 public class PublicationDTO {
 
+    /** Property names accepted by ?fields= */
+    public static final Set<String> FIELDS = Set.of("id", "title", "content", "authorId", "status",
+            "reviewComments", "editorName", "rejectionReason", "publishAt", "claimedBy", "claimExpiresAt", "createdAt", "updatedAt", "author",
+            "version", "contentHash");
+
+    /** Property names a PATCH /publications/{id} merge patch may set */
+    public static final Set<String> PATCHABLE_FIELDS = Set.of("title", "content", "reviewComments", "editorName",
+            "rejectionReason", "publishAt");
+
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private Long id;
 
@@ -25,6 +38,14 @@ public class PublicationDTO {
     @NotBlank(message = "Content is required")
     private String content;
 
+    // Compressed content, written as "content" by JacksonConfig straight from the decompressing stream
+    @JsonIgnore
+    private StreamedContent streamedContent;
+
+    // SHA-256 of the content: clients can leave content out of a PATCH when it has not changed
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String contentHash;
+
     @NotNull(message = "Author ID is required")
     @Positive(message = "Author ID must be positive")
     private Long authorId;
@@ -42,6 +63,19 @@ public class PublicationDTO {
     @Size(max = 500)
     private String rejectionReason;
 
+    // Optional; published automatically at this time once approved
+    private LocalDateTime publishAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String claimedBy;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime claimExpiresAt;
+
+    // Sent back as the ETag of PATCH responses and expected in If-Match
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private LocalDateTime createdAt;
 
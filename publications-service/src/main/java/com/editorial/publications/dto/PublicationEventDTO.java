@@ -0,0 +1,68 @@
+package com.editorial.publications.dto;
+
+import com.editorial.publications.entity.Publication;
+import com.editorial.publications.entity.PublicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pushed to /publications/events subscribers when a publication is created, edited or changes status
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PublicationEventDTO {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED
+    }
+
+    private Type type;
+    private Long publicationId;
+    private Long authorId;
+    private String title;
+    private PublicationStatus previousStatus;
+    private PublicationStatus status;
+    private LocalDateTime timestamp;
+
+    public static PublicationEventDTO created(Publication publication) {
+        return PublicationEventDTO.builder()
+                .type(Type.CREATED)
+                .publicationId(publication.getId())
+                .authorId(publication.getAuthorId())
+                .title(publication.getTitle())
+                .status(publication.getStatus())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    public static PublicationEventDTO updated(Publication publication) {
+        return PublicationEventDTO.builder()
+                .type(Type.UPDATED)
+                .publicationId(publication.getId())
+                .authorId(publication.getAuthorId())
+                .title(publication.getTitle())
+                .status(publication.getStatus())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    public static PublicationEventDTO statusChanged(Publication publication, PublicationStatus previousStatus) {
+        return PublicationEventDTO.builder()
+                .type(Type.STATUS_CHANGED)
+                .publicationId(publication.getId())
+                .authorId(publication.getAuthorId())
+                .title(publication.getTitle())
+                .previousStatus(previousStatus)
+                .status(publication.getStatus())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
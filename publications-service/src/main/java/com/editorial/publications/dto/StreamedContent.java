@@ -0,0 +1,14 @@
+package com.editorial.publications.dto;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Content decoded while the response is written instead of being held in the DTO as a String;
+ * each call opens a new reader, so a DTO can be serialized more than once
+ */
+@FunctionalInterface
+public interface StreamedContent {
+
+    Reader open() throws IOException;
+}
@@ -0,0 +1,24 @@
+package com.editorial.publications.dto;
+
+import com.editorial.publications.entity.PublicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A status the publication can move to next, and whether its guards currently pass
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkflowTransitionDTO {
+
+    private PublicationStatus status;
+
+    private boolean allowed;
+
+    // First failing guard, null when allowed
+    private String reason;
+}
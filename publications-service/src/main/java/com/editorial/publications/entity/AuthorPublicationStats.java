@@ -0,0 +1,49 @@
+package com.editorial.publications.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized publication counts per author and status.
+ * Written only through AuthorPublicationStatsRepository's atomic upserts.
+ */
+@Entity
+@Table(name = "author_publication_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthorPublicationStats {
+
+    @Id
+    private Long authorId;
+
+    @Column(nullable = false)
+    private long draftCount;
+
+    @Column(nullable = false)
+    private long inReviewCount;
+
+    @Column(nullable = false)
+    private long approvedCount;
+
+    @Column(nullable = false)
+    private long publishedCount;
+
+    @Column(nullable = false)
+    private long rejectedCount;
+
+    @Column(nullable = false)
+    private long requiresChangesCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -5,9 +5,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "publications")
+// UPDATEs list only the changed columns, so editing a title does not rewrite the content TEXT
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,6 +25,22 @@ public class Publication extends BaseEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // SHA-256 (hex) of the UTF-8 content; a PATCH carrying the same content leaves the content columns alone
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // LZ4 frame of the UTF-8 content when stored compressed; content is then left empty
+    @Column(name = "content_compressed")
+    private byte[] contentCompressed;
+
+    // Set when the content was uploaded as a stream and lives in publication_content_chunks
+    @Column(name = "content_version")
+    private Long contentVersion;
+
+    // Size in bytes of the streamed content
+    @Column(name = "content_length")
+    private Long contentLength;
+
     @Column(nullable = false)
     private Long authorId;
 
@@ -37,16 +58,33 @@ public class Publication extends BaseEntity {
     @Column(length = 500)
     private String rejectionReason;
 
-    public boolean canChangeStatus(PublicationStatus newStatus) {
-        // Define transition rules
-        return switch (this.status) {
-            case DRAFT -> newStatus == PublicationStatus.IN_REVIEW;
-            case IN_REVIEW -> newStatus == PublicationStatus.APPROVED || 
-                            newStatus == PublicationStatus.REJECTED ||
-                            newStatus == PublicationStatus.REQUIRES_CHANGES;
-            case REQUIRES_CHANGES -> newStatus == PublicationStatus.IN_REVIEW;
-            case APPROVED -> newStatus == PublicationStatus.PUBLISHED;
-            case PUBLISHED, REJECTED -> false; // Final states
-        };
+    // When set, the publication is published automatically once APPROVED and due
+    @Column(name = "publish_at")
+    private LocalDateTime publishAt;
+
+    // Review queue lease: editor holding the IN_REVIEW publication and until when
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    @Column(name = "claim_expires_at")
+    private LocalDateTime claimExpiresAt;
+
+    // Optimistic lock: concurrent edits of the same version fail instead of overwriting each other
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Partition key, set only by PublicationArchiver once the publication is final and old enough
+    @Column(nullable = false, insertable = false, updatable = false)
+    private boolean archived;
+
+    public boolean hasContent() {
+        return (content != null && !content.isBlank())
+                || (contentCompressed != null && contentCompressed.length > 0)
+                || (isContentStreamed() && contentLength > 0);
+    }
+
+    public boolean isContentStreamed() {
+        return contentVersion != null;
     }
 }
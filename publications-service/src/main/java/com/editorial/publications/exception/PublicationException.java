@@ -37,3 +37,27 @@ public class PublicationInvalidStateException extends PublicationException {
         super(message);
     }
 }
+
+public class ContentTooLargeException extends PublicationException {
+    public ContentTooLargeException(String message) {
+        super(message);
+    }
+}
+
+public class InvalidFieldSelectionException extends PublicationException {
+    public InvalidFieldSelectionException(String message) {
+        super(message);
+    }
+}
+
+public class InvalidPatchException extends PublicationException {
+    public InvalidPatchException(String message) {
+        super(message);
+    }
+}
+
+public class PublicationVersionMismatchException extends PublicationException {
+    public PublicationVersionMismatchException(String message) {
+        super(message);
+    }
+}
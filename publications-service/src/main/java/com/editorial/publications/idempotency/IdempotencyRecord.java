@@ -0,0 +1,27 @@
+package com.editorial.publications.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of one Idempotency-Key: in progress while the first request runs, then the response to replay
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    /** SHA-256 of method, URI and body; a key reused for a different request is rejected */
+    private String fingerprint;
+
+    private boolean completed;
+
+    private int statusCode;
+
+    private String contentType;
+
+    private byte[] body;
+}
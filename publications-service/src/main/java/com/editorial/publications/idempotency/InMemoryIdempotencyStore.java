@@ -0,0 +1,104 @@
+package com.editorial.publications.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-instance store: an insertion-ordered map capped at {@code max-entries}, oldest keys evicted first.
+ * Requests waiting on a key block on a future instead of polling.
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, Entry> entries;
+
+    public InMemoryIdempotencyStore(@Value("${idempotency.max-entries:10000}") int maxEntries) {
+        this.entries = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<IdempotencyRecord> claim(String key, String fingerprint, Duration inProgressTimeout) {
+        long now = System.nanoTime();
+        Entry existing = entries.get(key);
+        if (existing != null && existing.expiresAt - now > 0) {
+            return Optional.of(existing.record);
+        }
+        if (existing != null) {
+            entries.remove(key).done.complete(null);
+        }
+        IdempotencyRecord record = IdempotencyRecord.builder().fingerprint(fingerprint).build();
+        entries.put(key, new Entry(record, now + inProgressTimeout.toNanos()));
+        return Optional.empty();
+    }
+
+    @Override
+    public synchronized void complete(String key, IdempotencyRecord record, Duration ttl) {
+        Entry entry = entries.get(key);
+        CompletableFuture<Void> done = entry != null ? entry.done : null;
+        record.setCompleted(true);
+        Entry completed = new Entry(record, System.nanoTime() + ttl.toNanos());
+        completed.done.complete(null);
+        entries.put(key, completed);
+        if (done != null) {
+            done.complete(null);
+        }
+    }
+
+    @Override
+    public synchronized void release(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.record.isCompleted()) {
+            entries.remove(key);
+            entry.done.complete(null);
+        }
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> await(String key, Duration timeout) throws InterruptedException {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            return Optional.empty();
+        }
+        try {
+            entry.done.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return Optional.of(entry.record);
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            Entry current = entries.get(key);
+            return current != null && current.record.isCompleted() ? Optional.of(current.record) : Optional.empty();
+        }
+    }
+
+    private static final class Entry {
+        private final IdempotencyRecord record;
+        private final long expiresAt;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private Entry(IdempotencyRecord record, long expiresAt) {
+            this.record = record;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
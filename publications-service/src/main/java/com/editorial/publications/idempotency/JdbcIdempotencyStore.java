@@ -0,0 +1,101 @@
+package com.editorial.publications.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Store shared by all instances, backed by the idempotency_keys table.
+ * A claim is an INSERT that only overwrites an expired row, so exactly one instance wins a key.
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "jdbc")
+@RequiredArgsConstructor
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final RowMapper<IdempotencyRecord> RECORD_MAPPER = (rs, rowNum) -> IdempotencyRecord.builder()
+            .fingerprint(rs.getString("fingerprint"))
+            .completed(rs.getBoolean("completed"))
+            .statusCode(rs.getInt("status_code"))
+            .contentType(rs.getString("content_type"))
+            .body(rs.getBytes("body"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${idempotency.poll-interval-ms:50}")
+    private long pollIntervalMs;
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint, Duration inProgressTimeout) {
+        Instant now = Instant.now();
+        int claimed = jdbcTemplate.update("""
+                INSERT INTO idempotency_keys (idempotency_key, fingerprint, completed, created_at, expires_at)
+                VALUES (?, ?, FALSE, ?, ?)
+                ON CONFLICT (idempotency_key) DO UPDATE
+                SET fingerprint = EXCLUDED.fingerprint, completed = FALSE, status_code = NULL,
+                    content_type = NULL, body = NULL, created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at
+                WHERE idempotency_keys.expires_at < EXCLUDED.created_at
+                """, key, fingerprint, Timestamp.from(now), Timestamp.from(now.plus(inProgressTimeout)));
+        if (claimed == 1) {
+            return Optional.empty();
+        }
+        // The holder may have released the key in between; the caller then simply tries again
+        return find(key).or(() -> Optional.of(IdempotencyRecord.builder().fingerprint(fingerprint).build()));
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record, Duration ttl) {
+        jdbcTemplate.update("""
+                UPDATE idempotency_keys
+                SET completed = TRUE, status_code = ?, content_type = ?, body = ?, expires_at = ?
+                WHERE idempotency_key = ?
+                """, record.getStatusCode(), record.getContentType(), record.getBody(),
+                Timestamp.from(Instant.now().plus(ttl)), key);
+        record.setCompleted(true);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ? AND NOT completed", key);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> await(String key, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            Optional<IdempotencyRecord> record = find(key);
+            if (record.isEmpty() || record.get().isCompleted() || System.nanoTime() - deadline > 0) {
+                return record;
+            }
+            Thread.sleep(pollIntervalMs);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:300000}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < ?", Timestamp.from(Instant.now()));
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private Optional<IdempotencyRecord> find(String key) {
+        return jdbcTemplate.query("""
+                SELECT fingerprint, completed, status_code, content_type, body
+                FROM idempotency_keys
+                WHERE idempotency_key = ? AND expires_at >= ?
+                """, RECORD_MAPPER, key, Timestamp.from(Instant.now())).stream().findFirst();
+    }
+}
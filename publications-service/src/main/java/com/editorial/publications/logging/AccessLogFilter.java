@@ -0,0 +1,112 @@
+package com.editorial.publications.logging;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Structured (one JSON object per line) access log.
+ * Errors and slow requests are always written, successful requests are sampled.
+ * Lines go to the "ACCESS" logger, which logback-spring.xml routes to a non-blocking async appender.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS");
+
+    @Value("${access-log.enabled:true}")
+    private boolean enabled;
+
+    @Value("${access-log.success-sample-rate:0.01}")
+    private double successSampleRate;
+
+    @Value("${access-log.slow-threshold-ms:500}")
+    private long slowThresholdMs;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!enabled || !ACCESS_LOG.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            String reason = captureReason(status, durationMs);
+            if (reason != null) {
+                ACCESS_LOG.info(toJson(request, status, durationMs, reason, failure));
+            }
+        }
+    }
+
+    /**
+     * Decide whether the request is logged; returns the reason, or null when it is sampled out
+     */
+    private String captureReason(int status, long durationMs) {
+        if (status >= 400) {
+            return "error";
+        }
+        if (durationMs >= slowThresholdMs) {
+            return "slow";
+        }
+        if (successSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < successSampleRate) {
+            return "sampled";
+        }
+        return null;
+    }
+
+    private String toJson(HttpServletRequest request, int status, long durationMs, String reason, Throwable failure) {
+        StringBuilder json = new StringBuilder(256);
+        json.append('{');
+        appendField(json, "ts", Instant.now().toString()).append(',');
+        appendField(json, "method", request.getMethod()).append(',');
+        appendField(json, "path", request.getRequestURI()).append(',');
+        if (request.getQueryString() != null) {
+            appendField(json, "query", request.getQueryString()).append(',');
+        }
+        json.append("\"status\":").append(status).append(',');
+        json.append("\"duration_ms\":").append(durationMs).append(',');
+        appendField(json, "client", request.getRemoteAddr()).append(',');
+        appendField(json, "capture", reason).append(',');
+        json.append("\"sample_rate\":").append("sampled".equals(reason) ? successSampleRate : 1.0);
+        if (failure != null) {
+            json.append(',');
+            appendField(json, "exception", failure.getClass().getName());
+        }
+        json.append('}');
+        return json.toString();
+    }
+
+    private static StringBuilder appendField(StringBuilder json, String name, String value) {
+        json.append('"').append(name).append("\":");
+        if (value == null) {
+            return json.append("null");
+        }
+        json.append('"');
+        JsonStringEncoder.getInstance().quoteAsString(value, json);
+        return json.append('"');
+    }
+}
@@ -0,0 +1,102 @@
+package com.editorial.publications.logging;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes at most {@code permitsPerWindow} events per key and window to the wrapped logger.
+ * Everything above that is counted, and the count is reported with the next event that gets through,
+ * so an outage produces a handful of lines per minute instead of one stack trace per request.
+ * Keys are expected to come from a small fixed set (exception class names, call sites).
+ */
+public class RateLimitedLogger {
+
+    private final Logger delegate;
+    private final long windowNanos;
+    private final int permitsPerWindow;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public RateLimitedLogger(Logger delegate, Duration window, int permitsPerWindow) {
+        this.delegate = delegate;
+        this.windowNanos = window.toNanos();
+        this.permitsPerWindow = permitsPerWindow;
+    }
+
+    public void warn(String key, String format, Object... args) {
+        if (!delegate.isWarnEnabled()) {
+            return;
+        }
+        long suppressed = tryAcquire(key);
+        if (suppressed >= 0) {
+            delegate.warn(withSuppressed(format, suppressed), withSuppressed(args, suppressed));
+        }
+    }
+
+    public void error(String key, String format, Object... args) {
+        if (!delegate.isErrorEnabled()) {
+            return;
+        }
+        long suppressed = tryAcquire(key);
+        if (suppressed >= 0) {
+            delegate.error(withSuppressed(format, suppressed), withSuppressed(args, suppressed));
+        }
+    }
+
+    /**
+     * Returns the number of events suppressed since the last report, or -1 if this event must be dropped
+     */
+    private long tryAcquire(String key) {
+        Window window = windows.computeIfAbsent(key, k -> new Window(System.nanoTime()));
+        long now = System.nanoTime();
+        if (now - window.start > windowNanos) {
+            synchronized (window) {
+                if (now - window.start > windowNanos) {
+                    window.start = now;
+                    window.permits.set(0);
+                }
+            }
+        }
+        if (window.permits.incrementAndGet() > permitsPerWindow) {
+            window.suppressed.increment();
+            return -1;
+        }
+        return window.suppressed.sumThenReset();
+    }
+
+    private static String withSuppressed(String format, long suppressed) {
+        return suppressed > 0 ? format + " [{} similar events suppressed]" : format;
+    }
+
+    /**
+     * Insert the suppression count before a trailing throwable so SLF4J still prints its stack trace
+     */
+    private static Object[] withSuppressed(Object[] args, long suppressed) {
+        if (suppressed <= 0) {
+            return args;
+        }
+        Object[] extended = Arrays.copyOf(args, args.length + 1);
+        if (args.length > 0 && args[args.length - 1] instanceof Throwable) {
+            extended[args.length - 1] = suppressed;
+            extended[args.length] = args[args.length - 1];
+        } else {
+            extended[args.length] = suppressed;
+        }
+        return extended;
+    }
+
+    private static final class Window {
+        private volatile long start;
+        private final AtomicInteger permits = new AtomicInteger();
+        private final LongAdder suppressed = new LongAdder();
+
+        private Window(long start) {
+            this.start = start;
+        }
+    }
+}
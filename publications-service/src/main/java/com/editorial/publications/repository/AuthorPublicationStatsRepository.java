@@ -0,0 +1,66 @@
+package com.editorial.publications.repository;
+
+import com.editorial.publications.entity.AuthorPublicationStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AuthorPublicationStatsRepository extends JpaRepository<AuthorPublicationStats, Long> {
+
+    /**
+     * Add the given deltas to an author's counters, creating the row on first use.
+     * A single statement, so concurrent writers for the same author serialize on the row lock.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO author_publication_stats (author_id, draft_count, in_review_count, approved_count,
+                                                  published_count, rejected_count, requires_changes_count, updated_at)
+            VALUES (:authorId, :draft, :inReview, :approved, :published, :rejected, :requiresChanges, now())
+            ON CONFLICT (author_id) DO UPDATE SET
+                draft_count = author_publication_stats.draft_count + EXCLUDED.draft_count,
+                in_review_count = author_publication_stats.in_review_count + EXCLUDED.in_review_count,
+                approved_count = author_publication_stats.approved_count + EXCLUDED.approved_count,
+                published_count = author_publication_stats.published_count + EXCLUDED.published_count,
+                rejected_count = author_publication_stats.rejected_count + EXCLUDED.rejected_count,
+                requires_changes_count = author_publication_stats.requires_changes_count + EXCLUDED.requires_changes_count,
+                updated_at = now()
+            """, nativeQuery = true)
+    void applyDelta(@Param("authorId") Long authorId,
+                    @Param("draft") long draft,
+                    @Param("inReview") long inReview,
+                    @Param("approved") long approved,
+                    @Param("published") long published,
+                    @Param("rejected") long rejected,
+                    @Param("requiresChanges") long requiresChanges);
+
+    /**
+     * Block concurrent applyDelta calls until the surrounding rebuild commits
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE author_publication_stats IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM author_publication_stats", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO author_publication_stats (author_id, draft_count, in_review_count, approved_count,
+                                                  published_count, rejected_count, requires_changes_count, updated_at)
+            SELECT author_id,
+                   COUNT(*) FILTER (WHERE status = 'DRAFT'),
+                   COUNT(*) FILTER (WHERE status = 'IN_REVIEW'),
+                   COUNT(*) FILTER (WHERE status = 'APPROVED'),
+                   COUNT(*) FILTER (WHERE status = 'PUBLISHED'),
+                   COUNT(*) FILTER (WHERE status = 'REJECTED'),
+                   COUNT(*) FILTER (WHERE status = 'REQUIRES_CHANGES'),
+                   now()
+            FROM publications
+            GROUP BY author_id
+            """, nativeQuery = true)
+    int insertFromPublications();
+}
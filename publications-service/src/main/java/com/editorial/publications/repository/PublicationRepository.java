@@ -4,13 +4,21 @@ import com.editorial.publications.entity.Publication;
 import com.editorial.publications.entity.PublicationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface PublicationRepository extends JpaRepository<Publication, Long> {
+public interface PublicationRepository extends JpaRepository<Publication, Long>, PublicationRepositoryCustom {
 
     List<Publication> findByAuthorId(Long authorId);
 
@@ -19,4 +27,108 @@ public interface PublicationRepository extends JpaRepository<Publication, Long>
     Page<Publication> findByAuthorId(Long authorId, Pageable pageable);
 
     long countByStatus(PublicationStatus status);
+
+    /**
+     * Keyset pages, newest first, for merging the listings of several shards
+     */
+    @Query("SELECT p FROM Publication p ORDER BY p.createdAt DESC, p.id DESC")
+    List<Publication> findNewest(Pageable pageable);
+
+    @Query("SELECT p FROM Publication p WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Publication> findOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                    Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Publication p WHERE p.id = :id")
+    Optional<Publication> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Row claimed for scheduled publishing
+     */
+    interface PublishCandidate {
+        Long getId();
+
+        Long getAuthorId();
+
+        String getTitle();
+    }
+
+    interface ScheduledPublication {
+        Long getId();
+
+        LocalDateTime getPublishAt();
+    }
+
+    @Query(value = "SELECT id, author_id AS \"authorId\", title FROM publications "
+            + "WHERE archived = false AND id IN (:ids) AND status = 'APPROVED' AND publish_at <= :now "
+            + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<PublishCandidate> lockDueForPublishing(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT id, author_id AS \"authorId\", title FROM publications "
+            + "WHERE archived = false AND status = 'APPROVED' AND publish_at <= :now "
+            + "ORDER BY publish_at, id LIMIT :limit "
+            + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<PublishCandidate> lockDueForPublishing(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Query("SELECT p.id AS id, p.publishAt AS publishAt FROM Publication p "
+            + "WHERE p.status = com.editorial.publications.entity.PublicationStatus.APPROVED "
+            + "AND p.publishAt > :from AND p.publishAt <= :until AND p.archived = false")
+    List<ScheduledPublication> findScheduledBetween(@Param("from") LocalDateTime from, @Param("until") LocalDateTime until);
+
+    // Bulk updates bypass @Version, so they bump it themselves and a concurrent PATCH still conflicts
+    @Modifying
+    @Query("UPDATE Publication p SET p.status = :status, p.updatedAt = :now, p.version = p.version + 1 "
+            + "WHERE p.id IN :ids AND p.archived = false")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") PublicationStatus status,
+                     @Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT id FROM publications "
+            + "WHERE archived = false AND status = 'IN_REVIEW' "
+            + "AND (claim_expires_at IS NULL OR claim_expires_at < :now) "
+            + "ORDER BY created_at, id LIMIT :limit "
+            + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockUnclaimedForReview(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE Publication p SET p.claimedBy = :editorName, "
+            + "p.claimExpiresAt = :expiresAt, p.updatedAt = :now, p.version = p.version + 1 "
+            + "WHERE p.id IN :ids AND p.archived = false")
+    int assignClaims(@Param("ids") Collection<Long> ids, @Param("editorName") String editorName,
+                     @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Publication p SET p.claimedBy = NULL, p.claimExpiresAt = NULL, p.updatedAt = :now, "
+            + "p.version = p.version + 1 "
+            + "WHERE p.id = :id AND p.archived = false AND p.claimedBy = :editorName "
+            + "AND p.claimExpiresAt >= :now")
+    int releaseClaim(@Param("id") Long id, @Param("editorName") String editorName, @Param("now") LocalDateTime now);
+
+    /**
+     * Months (YYYY-MM) of the updated_at of rows waiting to be archived, so their partitions can be created first
+     */
+    @Query(value = "SELECT DISTINCT to_char(updated_at, 'YYYY-MM') FROM publications "
+            + "WHERE archived = false AND status IN (:statuses) AND updated_at < :cutoff", nativeQuery = true)
+    List<String> findArchivableMonths(@Param("statuses") Collection<String> statuses,
+                                      @Param("cutoff") LocalDateTime cutoff);
+
+    @Query(value = "SELECT id FROM publications "
+            + "WHERE archived = false AND status IN (:statuses) AND updated_at < :cutoff "
+            + "ORDER BY updated_at, id LIMIT :limit "
+            + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockArchivable(@Param("statuses") Collection<String> statuses, @Param("cutoff") LocalDateTime cutoff,
+                              @Param("limit") int limit);
+
+    /**
+     * Moves the rows into publications_archived (row movement across partitions)
+     */
+    @Modifying
+    @Query(value = "UPDATE publications SET archived = true, archived_at = updated_at "
+            + "WHERE archived = false AND id IN (:ids)", nativeQuery = true)
+    int archive(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id FROM Publication p WHERE p.id > :afterId AND p.contentCompressed IS NULL "
+            + "AND length(p.content) >= :minLength ORDER BY p.id")
+    List<Long> findIdsWithUncompressedContent(@Param("afterId") Long afterId, @Param("minLength") int minLength,
+                                              Pageable pageable);
 }
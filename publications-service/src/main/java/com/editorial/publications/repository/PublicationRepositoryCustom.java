@@ -0,0 +1,18 @@
+package com.editorial.publications.repository;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Queries that select only the given entity attributes (each aliased by its attribute name)
+ */
+public interface PublicationRepositoryCustom {
+
+    Optional<Tuple> findColumnsById(Long id, Collection<String> attributes);
+
+    Page<Tuple> findColumns(Collection<String> attributes, Pageable pageable);
+}
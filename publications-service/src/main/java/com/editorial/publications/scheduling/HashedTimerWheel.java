@@ -0,0 +1,125 @@
+package com.editorial.publications.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel: O(1) scheduling, one bucket inspected per tick regardless of how many timers exist.
+ * Timers are accurate to one tick. Everything that expires in a tick is handed to the callback as one list,
+ * so a burst scheduled for the same instant can be processed in batches. Timers cannot be cancelled;
+ * the callback is expected to re-check whatever the timer stands for.
+ */
+@Slf4j
+public class HashedTimerWheel<T> implements AutoCloseable {
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<Timer<T>>[] buckets;
+    private final Queue<Timer<T>> pending = new ConcurrentLinkedQueue<>();
+    private final Consumer<List<T>> onExpired;
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean running = true;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(String name, Duration tickDuration, int wheelSize, Consumer<List<T>> onExpired) {
+        int size = Integer.highestOneBit(Math.max(2, wheelSize - 1) << 1);
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = size - 1;
+        this.buckets = new List[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.onExpired = onExpired;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Fire {@code payload} at {@code deadline}; deadlines in the past fire on the next tick. Thread-safe.
+     */
+    public void schedule(T payload, Instant deadline) {
+        long delayNanos = Duration.between(Instant.now(), deadline).toNanos();
+        pending.add(new Timer<>(payload, System.nanoTime() - startNanos + Math.max(0, delayNanos)));
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = (tick + 1) * tickNanos;
+            long sleepNanos = deadline - (System.nanoTime() - startNanos);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            transferPending();
+            List<T> expired = expire(buckets[(int) (tick & mask)]);
+            tick++;
+            if (!expired.isEmpty()) {
+                try {
+                    onExpired.accept(expired);
+                } catch (RuntimeException e) {
+                    log.error("Timer wheel callback failed for {} timers", expired.size(), e);
+                }
+            }
+        }
+    }
+
+    private void transferPending() {
+        Timer<T> timer;
+        while ((timer = pending.poll()) != null) {
+            long calculated = timer.deadlineNanos / tickNanos;
+            timer.remainingRounds = Math.max(0, (calculated - tick) / buckets.length);
+            long ticks = Math.max(calculated, tick);
+            buckets[(int) (ticks & mask)].add(timer);
+        }
+    }
+
+    private List<T> expire(List<Timer<T>> bucket) {
+        List<T> expired = new ArrayList<>();
+        int kept = 0;
+        for (Timer<T> timer : bucket) {
+            if (timer.remainingRounds <= 0) {
+                expired.add(timer.payload);
+            } else {
+                timer.remainingRounds--;
+                bucket.set(kept++, timer);
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+        return expired;
+    }
+
+    private static final class Timer<T> {
+        private final T payload;
+        private final long deadlineNanos;
+        private long remainingRounds;
+
+        private Timer(T payload, long deadlineNanos) {
+            this.payload = payload;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.editorial.publications.service;
+
+import com.editorial.publications.entity.Publication;
+import com.editorial.publications.repository.PublicationRepository;
+import com.editorial.publications.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Compresses rows written before compressed storage was enabled.
+ * Runs once in a background thread after startup, one short transaction per batch. Each batch also advances
+ * the shard's high-water mark in content_compression_progress to the last row it examined, so later startups
+ * skip the rows already compressed. Starting with compression disabled clears the mark, since everything
+ * written from then on is stored plain and has to be checked again once compression is back on.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ContentCompressionMigrator {
+
+    private static final String ADVANCE_MARK = "ON CONFLICT (id) DO UPDATE SET last_checked_id = "
+            + "GREATEST(content_compression_progress.last_checked_id, EXCLUDED.last_checked_id)";
+
+    private final PublicationRepository publicationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PublicationContentCodec contentCodec;
+    private final ShardRouter shardRouter;
+
+    @Value("${publications.content.compression.migrate-existing:true}")
+    private boolean migrateExisting;
+
+    @Value("${publications.content.compression.migration-batch-size:100}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startMigration() {
+        if (!contentCodec.isCompressionEnabled()) {
+            resetProgress();
+            return;
+        }
+        if (!migrateExisting) {
+            return;
+        }
+        Thread worker = new Thread(this::migrate, "content-compression-migrator");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void migrate() {
+        for (String shard : shardRouter.getShards()) {
+            migrate(shard);
+        }
+    }
+
+    private void migrate(String shard) {
+        long migrated = 0;
+        try {
+            Long checked = shardRouter.inTransaction(shard, true, this::lastCheckedId);
+            long lastId = checked != null ? checked : 0;
+            while (true) {
+                long afterId = lastId;
+                List<Long> ids = shardRouter.inTransaction(shard, true, () ->
+                        publicationRepository.findIdsWithUncompressedContent(afterId, contentCodec.getMinSize(),
+                                PageRequest.of(0, batchSize)));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                lastId = ids.get(ids.size() - 1);
+                long batchEnd = lastId;
+                Integer count = shardRouter.inTransaction(shard, false, () -> {
+                    int compressed = compressBatch(ids);
+                    recordChecked(batchEnd);
+                    return compressed;
+                });
+                migrated += count != null ? count : 0;
+            }
+            log.info("Content compression migration finished on {}: {} publications compressed", shard, migrated);
+        } catch (Exception e) {
+            log.error("Content compression migration on {} stopped after {} publications: {}",
+                    shard, migrated, e.getMessage());
+        }
+    }
+
+    private void resetProgress() {
+        for (String shard : shardRouter.getShards()) {
+            try {
+                shardRouter.inTransaction(shard, false, () ->
+                        jdbcTemplate.update("DELETE FROM content_compression_progress"));
+            } catch (Exception e) {
+                log.warn("Could not reset the content compression progress of {}: {}", shard, e.getMessage());
+            }
+        }
+    }
+
+    private Long lastCheckedId() {
+        return jdbcTemplate.query("SELECT last_checked_id FROM content_compression_progress",
+                rs -> rs.next() ? rs.getLong(1) : 0L);
+    }
+
+    private void recordChecked(long id) {
+        jdbcTemplate.update("INSERT INTO content_compression_progress (last_checked_id) VALUES (?) "
+                + ADVANCE_MARK, id);
+    }
+
+    private int compressBatch(List<Long> ids) {
+        List<Publication> publications = publicationRepository.findAllById(ids);
+        int compressed = 0;
+        for (Publication publication : publications) {
+            contentCodec.store(publication, publication.getContent());
+            if (contentCodec.isCompressed(publication)) {
+                compressed++;
+            }
+        }
+        publicationRepository.saveAll(publications);
+        return compressed;
+    }
+}
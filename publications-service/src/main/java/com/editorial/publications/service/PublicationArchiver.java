@@ -0,0 +1,116 @@
+package com.editorial.publications.service;
+
+import com.editorial.publications.entity.PublicationStatus;
+import com.editorial.publications.repository.PublicationRepository;
+import com.editorial.publications.sharding.ShardRouter;
+import com.editorial.publications.workflow.EditorialWorkflow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Moves publications in a final status (no outgoing transitions in the workflow) that have not changed
+ * for {@code min-age} from publications_active into publications_archived, one monthly range partition
+ * per month of their last update. Keeps the active partition, and its indexes, down to the live workflow.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PublicationArchiver {
+
+    private final PublicationRepository publicationRepository;
+    private final EditorialWorkflow workflow;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+
+    /** Archived partitions known to exist, as shard/month */
+    private final Set<String> partitions = ConcurrentHashMap.newKeySet();
+
+    @Value("${publications.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${publications.archive.min-age:30d}")
+    private Duration minAge;
+
+    @Value("${publications.archive.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${publications.archive.interval-ms:3600000}",
+            initialDelayString = "${publications.archive.interval-ms:3600000}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        List<String> finalStatuses = Arrays.stream(PublicationStatus.values())
+                .filter(workflow::isFinal)
+                .map(Enum::name)
+                .toList();
+        if (finalStatuses.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        for (String shard : shardRouter.getShards()) {
+            archive(shard, finalStatuses, cutoff);
+        }
+    }
+
+    /**
+     * CREATE TABLE statement of the archived partition for one month
+     */
+    public static String partitionDdl(YearMonth month) {
+        return String.format("CREATE TABLE IF NOT EXISTS publications_archived_%d_%02d "
+                        + "PARTITION OF publications_archived FOR VALUES FROM ('%s') TO ('%s')",
+                month.getYear(), month.getMonthValue(), month.atDay(1), month.plusMonths(1).atDay(1));
+    }
+
+    private void archive(String shard, List<String> finalStatuses, LocalDateTime cutoff) {
+        // Partition DDL locks publications_archived, so it runs on its own before rows are moved
+        List<String> months = shardRouter.inTransaction(shard, true,
+                () -> publicationRepository.findArchivableMonths(finalStatuses, cutoff));
+        for (String month : months) {
+            ensurePartition(shard, YearMonth.parse(month));
+        }
+
+        long total = 0;
+        int archived;
+        do {
+            archived = archiveBatch(shard, finalStatuses, cutoff);
+            total += archived;
+        } while (archived >= batchSize);
+        if (total > 0) {
+            log.info("Archived {} publications on {} last updated before {}", total, shard, cutoff);
+        }
+    }
+
+    private int archiveBatch(String shard, List<String> finalStatuses, LocalDateTime cutoff) {
+        Integer archived = shardRouter.inTransaction(shard, false, () -> {
+            List<Long> ids = publicationRepository.lockArchivable(finalStatuses, cutoff, batchSize);
+            return ids.isEmpty() ? 0 : publicationRepository.archive(ids);
+        });
+        return archived != null ? archived : 0;
+    }
+
+    private void ensurePartition(String shard, YearMonth month) {
+        if (partitions.contains(shard + "/" + month)) {
+            return;
+        }
+        shardRouter.inTransaction(shard, false, () -> {
+            jdbcTemplate.execute(partitionDdl(month));
+            return null;
+        });
+        partitions.add(shard + "/" + month);
+        log.info("Archived partition for {} ready on {}", month, shard);
+    }
+}
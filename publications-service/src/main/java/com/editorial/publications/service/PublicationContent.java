@@ -0,0 +1,46 @@
+package com.editorial.publications.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Where a publication's content lives and how large it is; the bytes are read on demand by
+ * PublicationContentStore. Inline content (created through the JSON API) is small and kept as is.
+ */
+@Getter
+@Builder
+public class PublicationContent {
+
+    private final Long publicationId;
+
+    /** Shard holding the chunks, see ShardRouter */
+    private final String shard;
+
+    /** Strong validator for If-None-Match / If-Range; changes whenever the content is replaced */
+    private final String eTag;
+
+    private final long length;
+
+    /** Current upload version, null for inline content */
+    private final Long version;
+
+    private final List<Chunk> chunks;
+
+    /** Inline content as stored on the row; ranges are cut from the (decompressing) stream, not a copy */
+    private final String inlineText;
+
+    private final byte[] inlineCompressed;
+
+    public boolean isStreamed() {
+        return version != null;
+    }
+
+    public record Chunk(int seq, long rawOffset, int rawLength, boolean compressed) {
+
+        long rawEnd() {
+            return rawOffset + rawLength;
+        }
+    }
+}
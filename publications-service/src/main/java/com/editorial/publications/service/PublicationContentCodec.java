@@ -0,0 +1,212 @@
+package com.editorial.publications.service;
+
+import com.editorial.publications.dto.PublicationDTO;
+import com.editorial.publications.entity.Publication;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Stores publication content either as plain TEXT or as an LZ4 frame in content_compressed.
+ * Reads handle both layouts, so compression can be switched on before existing rows are migrated.
+ */
+@Component
+public class PublicationContentCodec {
+
+    @Value("${publications.content.compression.enabled:false}")
+    private boolean compressionEnabled;
+
+    @Value("${publications.content.compression.min-size:1024}")
+    private int minSize;
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    /**
+     * Content shorter than this many characters is stored uncompressed
+     */
+    public int getMinSize() {
+        return minSize;
+    }
+
+    /**
+     * Write content into the entity using the configured storage mode
+     */
+    public void store(Publication publication, String content) {
+        publication.setContentHash(content != null ? hash(content) : null);
+        if (compressionEnabled && content != null && content.length() >= minSize) {
+            publication.setContentCompressed(compress(content.getBytes(StandardCharsets.UTF_8)));
+            publication.setContent("");
+        } else {
+            publication.setContent(content);
+            publication.setContentCompressed(null);
+        }
+    }
+
+    /**
+     * Decompress content only when it is actually read; streamed content is only served by /content
+     */
+    public String read(Publication publication) {
+        if (publication.isContentStreamed()) {
+            return null;
+        }
+        return decode(publication.getContent(), publication.getContentCompressed());
+    }
+
+    /**
+     * Content for a response: plain text as is, compressed content as a stream decompressed while the
+     * response is written, so the document is never held as a String; null for streamed content
+     */
+    public void readInto(PublicationDTO dto, String content, byte[] contentCompressed) {
+        if (contentCompressed == null) {
+            dto.setContent(content);
+        } else {
+            dto.setStreamedContent(() -> new InputStreamReader(
+                    new LZ4FrameInputStream(new ByteArrayInputStream(contentCompressed)), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Same as read, for callers that selected the two content columns directly
+     */
+    public String decode(String content, byte[] contentCompressed) {
+        if (contentCompressed == null) {
+            return content;
+        }
+        try (InputStream in = new LZ4FrameInputStream(new ByteArrayInputStream(contentCompressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt compressed publication content", e);
+        }
+    }
+
+    /**
+     * Stream the UTF-8 content, decompressing on the fly instead of building the whole string
+     */
+    public InputStream openStream(Publication publication) throws IOException {
+        return openStream(publication.getContent(), publication.getContentCompressed());
+    }
+
+    public InputStream openStream(String content, byte[] contentCompressed) throws IOException {
+        if (contentCompressed == null) {
+            return new ByteArrayInputStream((content != null ? content : "").getBytes(StandardCharsets.UTF_8));
+        }
+        return new LZ4FrameInputStream(new ByteArrayInputStream(contentCompressed));
+    }
+
+    /**
+     * Size in bytes of the UTF-8 content, without decoding it: compressed frames carry their size in the
+     * header, only frames written before that was recorded are decompressed (and discarded) to count it
+     */
+    public long length(String content, byte[] contentCompressed) {
+        if (contentCompressed == null) {
+            return content != null ? utf8Length(content) : 0;
+        }
+        try (LZ4FrameInputStream in = new LZ4FrameInputStream(new ByteArrayInputStream(contentCompressed))) {
+            return in.isExpectedContentSizeDefined()
+                    ? in.getExpectedContentSize()
+                    : in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt compressed publication content", e);
+        }
+    }
+
+    /**
+     * Hash of the current content; computed from the content for rows stored before hashes existed,
+     * null for streamed content without one
+     */
+    public String contentHash(Publication publication) {
+        if (publication.getContentHash() != null || publication.isContentStreamed()) {
+            return publication.getContentHash();
+        }
+        return hash(read(publication));
+    }
+
+    public String hash(String content) {
+        return hex(newDigest().digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public String hex(byte[] digest) {
+        return HexFormat.of().formatHex(digest);
+    }
+
+    public boolean isCompressed(Publication publication) {
+        return publication.getContentCompressed() != null;
+    }
+
+    /**
+     * Compress one chunk of streamed content; returns null when compression is off or does not save space
+     */
+    public byte[] compressChunk(byte[] raw, int length) {
+        if (!compressionEnabled || length < minSize) {
+            return null;
+        }
+        byte[] compressed = compress(raw, length);
+        return compressed.length < length ? compressed : null;
+    }
+
+    public byte[] decompressChunk(byte[] stored, int rawLength) {
+        try (InputStream in = new LZ4FrameInputStream(new ByteArrayInputStream(stored))) {
+            return in.readNBytes(rawLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt compressed publication content chunk", e);
+        }
+    }
+
+    private byte[] compress(byte[] raw) {
+        return compress(raw, raw.length);
+    }
+
+    private byte[] compress(byte[] raw, int length) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, length / 3));
+        try (LZ4FrameOutputStream out = new LZ4FrameOutputStream(buffer, LZ4FrameOutputStream.BLOCKSIZE.SIZE_4MB,
+                length, LZ4FrameOutputStream.FLG.Bits.BLOCK_INDEPENDENCE, LZ4FrameOutputStream.FLG.Bits.CONTENT_SIZE)) {
+            out.write(raw, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress publication content", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static long utf8Length(String text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                // Unpaired surrogates are encoded as '?' by String.getBytes
+                length += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return length;
+    }
+}
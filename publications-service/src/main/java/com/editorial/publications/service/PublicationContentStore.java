@@ -0,0 +1,256 @@
+package com.editorial.publications.service;
+
+import com.editorial.publications.cache.ResponseCache;
+import com.editorial.publications.entity.Publication;
+import com.editorial.publications.exception.ContentTooLargeException;
+import com.editorial.publications.exception.PublicationInvalidStateException;
+import com.editorial.publications.exception.PublicationNotFoundException;
+import com.editorial.publications.repository.PublicationRepository;
+import com.editorial.publications.sharding.ShardContext;
+import com.editorial.publications.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streams manuscripts in and out of publication_content_chunks, one chunk in memory at a time.
+ * Chunks are written under a fresh version outside any transaction (an upload can take minutes),
+ * then a short transaction switches the publication to that version and drops the previous chunks.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PublicationContentStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PublicationRepository publicationRepository;
+    private final PublicationContentCodec contentCodec;
+    private final PlatformTransactionManager transactionManager;
+    private final ResponseCache responseCache;
+    private final ShardRouter shardRouter;
+
+    @Value("${publications.content.chunk-size:256KB}")
+    private DataSize chunkSize;
+
+    @Value("${publications.content.max-size:200MB}")
+    private DataSize maxSize;
+
+    /**
+     * Replace the content of a publication with the UTF-8 text read from {@code in}; returns the new content
+     */
+    public PublicationContent write(Long publicationId, InputStream in) throws IOException {
+        String previousShard = ShardContext.enter(shardRouter.locatePublication(publicationId));
+        try {
+            return writeOnShard(publicationId, in);
+        } finally {
+            ShardContext.restore(previousShard);
+        }
+    }
+
+    /**
+     * Load the content metadata (not the bytes) of a publication
+     */
+    public PublicationContent open(Long publicationId) {
+        String shard = shardRouter.locatePublication(publicationId);
+        String previousShard = ShardContext.enter(shard);
+        try {
+            return openOnShard(shard, publicationId);
+        } finally {
+            ShardContext.restore(previousShard);
+        }
+    }
+
+    private PublicationContent writeOnShard(Long publicationId, InputStream in) throws IOException {
+        // Checked before reading the upload, and again under the lock that switches versions
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> lockEditable(publicationId));
+
+        Long version = jdbcTemplate.queryForObject("SELECT nextval('publication_content_version_seq')", Long.class);
+        MessageDigest digest = contentCodec.newDigest();
+        long length;
+        try {
+            length = writeChunks(publicationId, version, in, digest);
+        } catch (IOException | RuntimeException e) {
+            deleteVersion(publicationId, version);
+            throw e;
+        }
+
+        try {
+            transaction.executeWithoutResult(status -> switchVersion(publicationId, version, length, digest));
+        } catch (RuntimeException e) {
+            deleteVersion(publicationId, version);
+            throw e;
+        }
+        return openOnShard(ShardContext.current(), publicationId);
+    }
+
+    private void switchVersion(Long publicationId, Long version, long length, MessageDigest digest) {
+        Publication publication = lockEditable(publicationId);
+        publication.setContent("");
+        publication.setContentCompressed(null);
+        publication.setContentVersion(version);
+        publication.setContentLength(length);
+        publication.setContentHash(contentCodec.hex(digest.digest()));
+        publicationRepository.save(publication);
+        // Also clears chunks left behind by uploads that died before reaching this point
+        jdbcTemplate.update("DELETE FROM publication_content_chunks WHERE publication_id = ? AND content_version <> ?",
+                publicationId, version);
+        responseCache.invalidate();
+    }
+
+    /**
+     * Lock the publication row; the manuscript can only be replaced while the author is editing it
+     */
+    private Publication lockEditable(Long publicationId) {
+        Publication publication = publicationRepository.findByIdForUpdate(publicationId)
+                .orElseThrow(() -> new PublicationNotFoundException("Publication not found with ID: " + publicationId));
+        if (!PublicationService.EDITABLE_STATUSES.contains(publication.getStatus())) {
+            throw new PublicationInvalidStateException(
+                    "Cannot replace the content of a publication in status " + publication.getStatus());
+        }
+        return publication;
+    }
+
+    private PublicationContent openOnShard(String shard, Long publicationId) {
+        Publication publication = publicationRepository.findById(publicationId)
+                .orElseThrow(() -> new PublicationNotFoundException("Publication not found with ID: " + publicationId));
+
+        if (!publication.isContentStreamed()) {
+            long updatedAt = publication.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+            return PublicationContent.builder()
+                    .publicationId(publicationId)
+                    .shard(shard)
+                    .eTag("\"" + publicationId + "-i" + updatedAt + "\"")
+                    .length(contentCodec.length(publication.getContent(), publication.getContentCompressed()))
+                    .inlineText(publication.getContent())
+                    .inlineCompressed(publication.getContentCompressed())
+                    .build();
+        }
+
+        List<PublicationContent.Chunk> chunks = jdbcTemplate.query("""
+                SELECT seq, raw_offset, raw_length, compressed
+                FROM publication_content_chunks
+                WHERE publication_id = ? AND content_version = ?
+                ORDER BY seq
+                """, (rs, rowNum) -> new PublicationContent.Chunk(rs.getInt("seq"), rs.getLong("raw_offset"),
+                        rs.getInt("raw_length"), rs.getBoolean("compressed")),
+                publicationId, publication.getContentVersion());
+        return PublicationContent.builder()
+                .publicationId(publicationId)
+                .shard(shard)
+                .eTag("\"" + publicationId + "-v" + publication.getContentVersion() + "\"")
+                .length(publication.getContentLength())
+                .version(publication.getContentVersion())
+                .chunks(chunks)
+                .build();
+    }
+
+    /**
+     * Copy bytes {@code start..end} (inclusive) to {@code out}, fetching only the chunks that overlap the range
+     */
+    public void copyRange(PublicationContent content, long start, long end, OutputStream out) throws IOException {
+        if (!content.isStreamed()) {
+            try (InputStream in = contentCodec.openStream(content.getInlineText(), content.getInlineCompressed())) {
+                in.skipNBytes(start);
+                copy(in, end - start + 1, out);
+            }
+            return;
+        }
+        for (PublicationContent.Chunk chunk : content.getChunks()) {
+            if (chunk.rawEnd() <= start) {
+                continue;
+            }
+            if (chunk.rawOffset() > end) {
+                break;
+            }
+            byte[] raw = readChunk(content, chunk);
+            int from = (int) Math.max(0, start - chunk.rawOffset());
+            int to = (int) Math.min(chunk.rawLength(), end - chunk.rawOffset() + 1);
+            out.write(raw, from, to - from);
+        }
+    }
+
+    /**
+     * Drop the streamed chunks of a publication whose content is now stored inline; joins the caller's transaction
+     */
+    public void discardChunks(Long publicationId) {
+        jdbcTemplate.update("DELETE FROM publication_content_chunks WHERE publication_id = ?", publicationId);
+    }
+
+    private long writeChunks(Long publicationId, Long version, InputStream in, MessageDigest digest)
+            throws IOException {
+        byte[] buffer = new byte[(int) chunkSize.toBytes()];
+        long offset = 0;
+        int seq = 0;
+        int read;
+        while ((read = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+            if (offset + read > maxSize.toBytes()) {
+                throw new ContentTooLargeException("Content exceeds the maximum size of " + maxSize.toMegabytes() + " MB");
+            }
+            digest.update(buffer, 0, read);
+            byte[] compressed = contentCodec.compressChunk(buffer, read);
+            byte[] data = compressed != null ? compressed : Arrays.copyOf(buffer, read);
+            jdbcTemplate.update("""
+                    INSERT INTO publication_content_chunks
+                        (publication_id, content_version, seq, raw_offset, raw_length, compressed, data)
+                    VALUES (?, ?, ?, ?, ?, ?, ?)
+                    """, publicationId, version, seq++, offset, read, compressed != null, data);
+            offset += read;
+        }
+        return offset;
+    }
+
+    private byte[] readChunk(PublicationContent content, PublicationContent.Chunk chunk) throws IOException {
+        byte[] data;
+        String previousShard = ShardContext.enter(content.getShard());
+        try {
+            data = jdbcTemplate.queryForObject("""
+                    SELECT data FROM publication_content_chunks
+                    WHERE publication_id = ? AND content_version = ? AND seq = ?
+                    """, byte[].class, content.getPublicationId(), content.getVersion(), chunk.seq());
+        } catch (EmptyResultDataAccessException e) {
+            // Replaced by a newer upload mid-download; abort rather than mix two versions
+            throw new IOException("Content of publication " + content.getPublicationId() + " changed during download");
+        } finally {
+            ShardContext.restore(previousShard);
+        }
+        return chunk.compressed() ? contentCodec.decompressChunk(data, chunk.rawLength()) : data;
+    }
+
+    private static void copy(InputStream in, long count, OutputStream out) throws IOException {
+        byte[] buffer = new byte[8192];
+        long remaining = count;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read < 0) {
+                throw new EOFException("Publication content ended " + remaining + " bytes early");
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+
+    private void deleteVersion(Long publicationId, Long version) {
+        try {
+            jdbcTemplate.update("DELETE FROM publication_content_chunks WHERE publication_id = ? AND content_version = ?",
+                    publicationId, version);
+        } catch (RuntimeException e) {
+            log.warn("Could not remove chunks of failed upload {} for publication {}", version, publicationId, e);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.editorial.publications.service;
+
+import com.editorial.publications.dto.PublicationEventDTO;
+import com.editorial.publications.entity.PublicationStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Observer pattern: fans committed publication events out to Server-Sent Events subscribers.
+ * Idle subscribers hold no thread (servlet async); a small shared pool drains each subscriber's
+ * bounded buffer, dropping the oldest events when a slow client falls behind. A client that stops
+ * reading altogether is dropped once a single write has blocked for longer than the send timeout; its
+ * blocked write keeps one thread of a fixed writer pool until the container gives up on the socket, and
+ * when every writer thread is held that way new subscribers' writes are refused and they are dropped.
+ */
+@Component
+@Slf4j
+public class PublicationEventStream {
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ExecutorService dispatcher;
+    private final ExecutorService writer;
+    private final ScheduledExecutorService heartbeat;
+
+    @Value("${publications.events.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${publications.events.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${publications.events.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    public PublicationEventStream(@Value("${publications.events.dispatcher-threads:2}") int dispatcherThreads,
+                                  @Value("${publications.events.writer-threads:16}") int writerThreads,
+                                  @Value("${publications.events.heartbeat-seconds:30}") long heartbeatSeconds) {
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, daemon("sse-dispatch"));
+        // Writes to a stalled socket stay blocked until the container gives up on it, so they run apart from the
+        // dispatcher; no queue, a write that finds every thread held is rejected
+        ThreadPoolExecutor writerPool = new ThreadPoolExecutor(writerThreads, writerThreads, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), daemon("sse-write"));
+        writerPool.allowCoreThreadTimeOut(true);
+        this.writer = writerPool;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemon("sse-heartbeat"));
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Register a subscriber; null filters match everything
+     */
+    public SseEmitter subscribe(Long authorId, PublicationStatus status) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, authorId, status, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Only committed changes are pushed, so subscribers never see a rolled-back transition
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPublicationEvent(PublicationEventDTO event) {
+        long id = sequence.incrementAndGet();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.matches(event)) {
+                subscriber.enqueue(id, event);
+                if (subscriber.scheduled.compareAndSet(false, true)) {
+                    dispatcher.execute(() -> drain(subscriber));
+                }
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            if (subscriber.heartbeatDue.getAndSet(false)) {
+                send(subscriber, SseEmitter.event().comment("keep-alive"));
+            }
+            Buffered next;
+            while ((next = subscriber.poll()) != null) {
+                send(subscriber, SseEmitter.event()
+                        .id(Long.toString(next.id()))
+                        .name(next.event().getType().name())
+                        .data(next.event(), MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber, e);
+            return;
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+        // An event may have arrived between the last poll and releasing the flag
+        if ((subscriber.hasPending() || subscriber.heartbeatDue.get())
+                && subscriber.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * Heartbeats go through the dispatcher like events, so this thread never waits on a client
+     */
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue.set(true);
+            if (subscriber.scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    /**
+     * Send on a writer thread and wait at most sendTimeoutMs, so one client that stopped reading
+     * cannot hold up the dispatcher (and every other subscriber behind it). A subscriber has at most one
+     * write in flight; one still blocked from an earlier timeout fails the send at once.
+     */
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        if (!subscriber.writing.compareAndSet(false, true)) {
+            throw new IOException("SSE client is still blocked on an earlier event");
+        }
+        Future<?> write;
+        try {
+            write = writer.submit(() -> {
+                try {
+                    subscriber.emitter.send(event);
+                } finally {
+                    subscriber.writing.set(false);
+                    completeIfDropped(subscriber);
+                }
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            subscriber.writing.set(false);
+            throw new IOException("All SSE writer threads are blocked on stalled clients");
+        }
+        try {
+            write.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IOException("SSE send failed", e.getCause());
+        } catch (TimeoutException e) {
+            // Not cancelled: interrupting does not unblock a servlet write, and the task must run its finally
+            throw new IOException("SSE client did not accept an event within " + sendTimeoutMs + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while sending an SSE event", e);
+        }
+    }
+
+    /**
+     * Remove the subscriber and end its response. Completing waits for the emitter's lock, which a blocked
+     * write still holds, so with a write in flight the writer thread completes it once the write returns.
+     */
+    private void drop(Subscriber subscriber, Exception cause) {
+        if (subscribers.remove(subscriber)) {
+            log.debug("Dropping SSE subscriber: {}", cause.getMessage());
+            subscriber.dropCause = cause;
+            completeIfDropped(subscriber);
+        }
+    }
+
+    private static void completeIfDropped(Subscriber subscriber) {
+        Exception cause = subscriber.dropCause;
+        if (cause != null && !subscriber.writing.get() && subscriber.completed.compareAndSet(false, true)) {
+            subscriber.emitter.completeWithError(cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        dispatcher.shutdownNow();
+        writer.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Buffered(long id, PublicationEventDTO event) {
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long authorId;
+        private final PublicationStatus status;
+        private final int capacity;
+        private final ArrayDeque<Buffered> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile Exception dropCause;
+        private long dropped;
+
+        private Subscriber(SseEmitter emitter, Long authorId, PublicationStatus status, int capacity) {
+            this.emitter = emitter;
+            this.authorId = authorId;
+            this.status = status;
+            this.capacity = capacity;
+            this.buffer = new ArrayDeque<>(Math.min(capacity, 16));
+        }
+
+        private boolean matches(PublicationEventDTO event) {
+            return (authorId == null || authorId.equals(event.getAuthorId()))
+                    && (status == null || status == event.getStatus());
+        }
+
+        private synchronized void enqueue(long id, PublicationEventDTO event) {
+            if (buffer.size() >= capacity) {
+                buffer.pollFirst();
+                dropped++;
+                if (dropped == 1 || dropped % 1000 == 0) {
+                    log.debug("SSE subscriber is falling behind, {} events dropped", dropped);
+                }
+            }
+            buffer.addLast(new Buffered(id, event));
+        }
+
+        private synchronized Buffered poll() {
+            return buffer.pollFirst();
+        }
+
+        private synchronized boolean hasPending() {
+            return !buffer.isEmpty();
+        }
+    }
+}
@@ -2,28 +2,81 @@ package com.editorial.publications.service;
 
 import com.editorial.publications.dto.PublicationDTO;
 import com.editorial.publications.entity.Publication;
+import com.editorial.publications.entity.PublicationStatus;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 @Component
+@RequiredArgsConstructor
 public class PublicationMapper {
 
+    private final PublicationContentCodec contentCodec;
+
     public PublicationDTO entityToDTO(Publication entity) {
         if (entity == null) {
             return null;
         }
 
-        return PublicationDTO.builder()
+        PublicationDTO dto = PublicationDTO.builder()
                 .id(entity.getId())
                 .title(entity.getTitle())
-                .content(entity.getContent())
+                .contentHash(entity.getContentHash())
                 .authorId(entity.getAuthorId())
                 .status(entity.getStatus())
                 .reviewComments(entity.getReviewComments())
                 .editorName(entity.getEditorName())
                 .rejectionReason(entity.getRejectionReason())
+                .publishAt(entity.getPublishAt())
+                .claimedBy(entity.getClaimedBy())
+                .claimExpiresAt(entity.getClaimExpiresAt())
+                .version(entity.getVersion())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .build();
+        if (!entity.isContentStreamed()) {
+            contentCodec.readInto(dto, entity.getContent(), entity.getContentCompressed());
+        }
+        return dto;
+    }
+
+    /**
+     * Build a partial DTO from a row selected with PublicationRepository.findColumns*
+     */
+    public PublicationDTO tupleToDTO(Tuple row) {
+        PublicationDTO dto = new PublicationDTO();
+        for (TupleElement<?> element : row.getElements()) {
+            String alias = element.getAlias();
+            Object value = row.get(alias);
+            switch (alias) {
+                case "id" -> dto.setId((Long) value);
+                case "title" -> dto.setTitle((String) value);
+                case "content" -> {
+                    if (row.get("contentVersion") == null) {
+                        contentCodec.readInto(dto, (String) value, (byte[]) row.get("contentCompressed"));
+                    }
+                }
+                case "contentHash" -> dto.setContentHash((String) value);
+                case "authorId" -> dto.setAuthorId((Long) value);
+                case "status" -> dto.setStatus((PublicationStatus) value);
+                case "reviewComments" -> dto.setReviewComments((String) value);
+                case "editorName" -> dto.setEditorName((String) value);
+                case "rejectionReason" -> dto.setRejectionReason((String) value);
+                case "publishAt" -> dto.setPublishAt((LocalDateTime) value);
+                case "claimedBy" -> dto.setClaimedBy((String) value);
+                case "claimExpiresAt" -> dto.setClaimExpiresAt((LocalDateTime) value);
+                case "version" -> dto.setVersion((Long) value);
+                case "createdAt" -> dto.setCreatedAt((LocalDateTime) value);
+                case "updatedAt" -> dto.setUpdatedAt((LocalDateTime) value);
+                default -> {
+                    // contentCompressed and contentVersion are consumed together with content
+                }
+            }
+        }
+        return dto;
     }
 
     public Publication dtoToEntity(PublicationDTO dto) {
@@ -31,15 +84,17 @@ public class PublicationMapper {
             return null;
         }
 
-        return Publication.builder()
+        Publication publication = Publication.builder()
                 .title(dto.getTitle())
-                .content(dto.getContent())
                 .authorId(dto.getAuthorId())
                 .status(dto.getStatus() != null ? dto.getStatus() : Publication.builder().build().getStatus())
                 .reviewComments(dto.getReviewComments())
                 .editorName(dto.getEditorName())
                 .rejectionReason(dto.getRejectionReason())
+                .publishAt(dto.getPublishAt())
                 .build();
+        contentCodec.store(publication, dto.getContent());
+        return publication;
     }
 
     public PublicationDTO toDTO(PublicationDTO dto) {
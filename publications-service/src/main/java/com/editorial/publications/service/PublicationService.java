@@ -1,24 +1,49 @@
 package com.editorial.publications.service;
 
+import com.editorial.publications.cache.ResponseCache;
 import com.editorial.publications.client.AuthorServiceClient;
+import com.editorial.publications.dto.FieldSelection;
 import com.editorial.publications.dto.PublicationDTO;
+import com.editorial.publications.dto.PublicationEventDTO;
+import com.editorial.publications.dto.WorkflowTransitionDTO;
 import com.editorial.publications.entity.Publication;
 import com.editorial.publications.entity.PublicationStatus;
 import com.editorial.publications.exception.AuthorNotFoundException;
+import com.editorial.publications.exception.InvalidPatchException;
 import com.editorial.publications.exception.PublicationInvalidStateException;
 import com.editorial.publications.exception.PublicationNotFoundException;
+import com.editorial.publications.exception.PublicationVersionMismatchException;
+import com.editorial.publications.logging.RateLimitedLogger;
 import com.editorial.publications.repository.PublicationRepository;
+import com.editorial.publications.sharding.ShardRouter;
+import com.editorial.publications.workflow.EditorialWorkflow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Publication Service - Orchestrates publication operations
- * Strategy pattern: Uses different validation strategies for status changes
+ * Status transitions are checked against the BPMN-compiled EditorialWorkflow
  */
 @Service
 @Slf4j
@@ -26,10 +51,29 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class PublicationService {
 
+    // Matches the (…, created_at, id) indexes from V2__add_publication_indexes.sql
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    private static final Comparator<Publication> NEWEST_FIRST_ORDER =
+            Comparator.comparing(Publication::getCreatedAt).thenComparing(Publication::getId).reversed();
+    // Authors edit drafts and resubmit after review asked for changes; later statuses are the editors'
+    static final Set<PublicationStatus> EDITABLE_STATUSES =
+            EnumSet.of(PublicationStatus.DRAFT, PublicationStatus.REQUIRES_CHANGES);
+
     private final PublicationRepository publicationRepository;
     private final PublicationMapper publicationMapper;
     private final AuthorServiceClient authorServiceClient;
-    private final PublicationStatusValidator statusValidator;
+    private final EditorialWorkflow workflow;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PublicationStatsService statsService;
+    private final ScheduledPublishingService scheduledPublishing;
+    private final ResponseCache responseCache;
+    private final ShardRouter shardRouter;
+    private final PublicationContentCodec contentCodec;
+    private final PublicationContentStore contentStore;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    private final RateLimitedLogger rateLimitedLog = new RateLimitedLogger(log, Duration.ofMinutes(1), 5);
 
     /**
      * Create a new publication
@@ -41,11 +85,15 @@ public class PublicationService {
             throw new AuthorNotFoundException("Author not found with id: " + dto.getAuthorId());
         }
 
+        shardRouter.useAuthorShard(dto.getAuthorId());
         Publication publication = publicationMapper.dtoToEntity(dto);
         Publication saved = publicationRepository.save(publication);
+        responseCache.invalidate();
         
         log.info("Publication created: id={}, title={}, authorId={}", 
                  saved.getId(), saved.getTitle(), saved.getAuthorId());
+        statsService.recordCreated(saved.getAuthorId(), saved.getStatus());
+        eventPublisher.publishEvent(PublicationEventDTO.created(saved));
         
         return enrichPublication(publicationMapper.entityToDTO(saved));
     }
@@ -55,57 +103,272 @@ public class PublicationService {
      */
     @Transactional(readOnly = true)
     public PublicationDTO getPublicationById(Long id) {
+        shardRouter.usePublicationShard(id);
         Publication publication = publicationRepository.findById(id)
                 .orElseThrow(() -> new PublicationNotFoundException("Publication not found with id: " + id));
         return enrichPublication(publicationMapper.entityToDTO(publication));
     }
 
+    /**
+     * Get publication by ID, selecting only the requested fields
+     */
+    @Transactional(readOnly = true)
+    public PublicationDTO getPublicationById(Long id, FieldSelection fields) {
+        if (fields.isAll()) {
+            return getPublicationById(id);
+        }
+        shardRouter.usePublicationShard(id);
+        PublicationDTO dto = publicationRepository.findColumnsById(id, columnsFor(fields))
+                .map(publicationMapper::tupleToDTO)
+                .orElseThrow(() -> new PublicationNotFoundException("Publication not found with id: " + id));
+        return fields.includes("author") ? enrichPublication(dto) : dto;
+    }
+
     /**
      * List all publications with pagination
      */
     @Transactional(readOnly = true)
     public Page<PublicationDTO> listPublications(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return publicationRepository.findAll(pageable)
+        Pageable pageable = PageRequest.of(page, size, NEWEST_FIRST);
+        Page<Publication> publications = shardRouter.isSharded()
+                ? findAllAcrossShards(pageable)
+                : publicationRepository.findAll(pageable);
+        return publications
                 .map(this::enrichPublication)
                 .map(publicationMapper::toDTO);
     }
 
+    /**
+     * List publications selecting only the requested fields; author enrichment only when requested
+     */
+    @Transactional(readOnly = true)
+    public Page<PublicationDTO> listPublications(int page, int size, FieldSelection fields) {
+        // Sharded listings merge whole rows; SparseFieldsetAdvice still trims the response
+        if (fields.isAll() || shardRouter.isSharded()) {
+            return listPublications(page, size);
+        }
+        Pageable pageable = PageRequest.of(page, size, NEWEST_FIRST);
+        Page<PublicationDTO> publications = publicationRepository.findColumns(columnsFor(fields), pageable)
+                .map(publicationMapper::tupleToDTO);
+        return fields.includes("author") ? publications.map(this::enrichPublication) : publications;
+    }
+
     /**
      * List publications by author
      */
     @Transactional(readOnly = true)
     public Page<PublicationDTO> listPublicationsByAuthor(Long authorId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
+        shardRouter.useAuthorShard(authorId);
+        Pageable pageable = PageRequest.of(page, size, NEWEST_FIRST);
         return publicationRepository.findByAuthorId(authorId, pageable)
                 .map(this::enrichPublication)
                 .map(publicationMapper::toDTO);
     }
 
     /**
-     * Change publication status with validation
+     * Change publication status with validation. Deciding a review leased to an editor takes that editor's
+     * name, until the lease expires; the deciding editor becomes the publication's editor.
      */
-    public PublicationDTO changeStatus(Long id, PublicationStatus newStatus) {
+    public PublicationDTO changeStatus(Long id, PublicationStatus newStatus, String editorName) {
+        shardRouter.usePublicationShard(id);
         Publication publication = publicationRepository.findById(id)
                 .orElseThrow(() -> new PublicationNotFoundException("Publication not found with id: " + id));
 
-        // Validate status transition
-        if (!publication.canChangeStatus(newStatus)) {
-            throw new PublicationInvalidStateException(
-                    "Cannot change publication status from " + publication.getStatus() + " to " + newStatus);
+        if (publication.getStatus() == PublicationStatus.IN_REVIEW && newStatus != PublicationStatus.IN_REVIEW) {
+            requireLeaseHolder(publication, editorName);
+            if (editorName != null && !editorName.isBlank()) {
+                publication.setEditorName(editorName);
+            }
         }
+        workflow.checkTransition(publication, newStatus);
 
-        // Use strategy validator for additional business rules
-        statusValidator.validate(publication, newStatus);
-
+        PublicationStatus previousStatus = publication.getStatus();
         publication.setStatus(newStatus);
+        // The review lease ends with the review
+        publication.setClaimedBy(null);
+        publication.setClaimExpiresAt(null);
         Publication updated = publicationRepository.save(publication);
+        responseCache.invalidate();
         
         log.info("Publication status changed: id={}, newStatus={}", id, newStatus);
+        statsService.recordTransition(updated.getAuthorId(), previousStatus, newStatus);
+        eventPublisher.publishEvent(PublicationEventDTO.statusChanged(updated, previousStatus));
+        if (newStatus == PublicationStatus.APPROVED) {
+            scheduledPublishing.schedule(updated.getId(), updated.getPublishAt());
+        }
         
         return enrichPublication(publicationMapper.entityToDTO(updated));
     }
 
+    /**
+     * Reject the change when another editor holds an unexpired review lease on the publication
+     */
+    private static void requireLeaseHolder(Publication publication, String editorName) {
+        LocalDateTime expiresAt = publication.getClaimExpiresAt();
+        boolean leased = publication.getClaimedBy() != null && expiresAt != null
+                && expiresAt.isAfter(LocalDateTime.now());
+        if (leased && !publication.getClaimedBy().equals(editorName)) {
+            throw new PublicationInvalidStateException("Publication " + publication.getId() + " is claimed by "
+                    + publication.getClaimedBy() + " until " + expiresAt);
+        }
+    }
+
+    /**
+     * Apply a JSON Merge Patch (RFC 7386) to the editable fields of a DRAFT or REQUIRES_CHANGES publication.
+     * Only changed columns are written; content whose hash matches the stored one is not touched.
+     * {@code expectedVersion}, from If-Match, must match the current version when given.
+     */
+    public PublicationDTO patchPublication(Long id, JsonNode patch, Long expectedVersion) {
+        PublicationDTO changes = readPatch(patch);
+
+        shardRouter.usePublicationShard(id);
+        Publication publication = publicationRepository.findById(id)
+                .orElseThrow(() -> new PublicationNotFoundException("Publication not found with id: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(publication.getVersion())) {
+            throw new PublicationVersionMismatchException("Publication " + id + " is at version "
+                    + publication.getVersion() + ", not " + expectedVersion);
+        }
+        if (!EDITABLE_STATUSES.contains(publication.getStatus())) {
+            throw new PublicationInvalidStateException(
+                    "Cannot edit a publication in status " + publication.getStatus());
+        }
+
+        Long previousVersion = publication.getVersion();
+        if (patch.has("title")) {
+            publication.setTitle(changes.getTitle());
+        }
+        if (patch.has("content")) {
+            replaceContent(publication, changes.getContent());
+        }
+        if (patch.has("reviewComments")) {
+            publication.setReviewComments(changes.getReviewComments());
+        }
+        if (patch.has("editorName")) {
+            publication.setEditorName(changes.getEditorName());
+        }
+        if (patch.has("rejectionReason")) {
+            publication.setRejectionReason(changes.getRejectionReason());
+        }
+        if (patch.has("publishAt")) {
+            publication.setPublishAt(changes.getPublishAt());
+        }
+        // Flushed here so the response carries the new version; no dirty attribute means no UPDATE at all
+        Publication updated = publicationRepository.saveAndFlush(publication);
+        if (!updated.getVersion().equals(previousVersion)) {
+            responseCache.invalidate();
+            log.info("Publication edited: id={}, version={}", id, updated.getVersion());
+            eventPublisher.publishEvent(PublicationEventDTO.updated(updated));
+        }
+        return enrichPublication(publicationMapper.entityToDTO(updated));
+    }
+
+    /**
+     * Set or clear (null) the time at which the publication is published once approved
+     */
+    public PublicationDTO schedulePublication(Long id, LocalDateTime publishAt) {
+        shardRouter.usePublicationShard(id);
+        Publication publication = publicationRepository.findById(id)
+                .orElseThrow(() -> new PublicationNotFoundException("Publication not found with id: " + id));
+        if (workflow.isFinal(publication.getStatus())) {
+            throw new PublicationInvalidStateException(
+                    "Cannot schedule a publication in final status " + publication.getStatus());
+        }
+
+        publication.setPublishAt(publishAt);
+        Publication updated = publicationRepository.save(publication);
+        responseCache.invalidate();
+        if (updated.getStatus() == PublicationStatus.APPROVED) {
+            scheduledPublishing.schedule(updated.getId(), publishAt);
+        }
+        return enrichPublication(publicationMapper.entityToDTO(updated));
+    }
+
+    /**
+     * Statuses the publication can move to next, with the outcome of their guards
+     */
+    @Transactional(readOnly = true)
+    public List<WorkflowTransitionDTO> getNextStates(Long id) {
+        shardRouter.usePublicationShard(id);
+        Publication publication = publicationRepository.findById(id)
+                .orElseThrow(() -> new PublicationNotFoundException("Publication not found with id: " + id));
+        return workflow.evaluateNextStates(publication);
+    }
+
+    /**
+     * Parse and validate a merge patch; null members clear the field, absent members are left alone
+     */
+    private PublicationDTO readPatch(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidPatchException("A merge patch must be a JSON object");
+        }
+        patch.fieldNames().forEachRemaining(field -> {
+            if (!PublicationDTO.PATCHABLE_FIELDS.contains(field)) {
+                throw new InvalidPatchException("Field cannot be patched: " + field);
+            }
+        });
+        PublicationDTO changes;
+        try {
+            changes = objectMapper.treeToValue(patch, PublicationDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidPatchException("Invalid merge patch: " + e.getOriginalMessage());
+        }
+        patch.fieldNames().forEachRemaining(field -> {
+            for (ConstraintViolation<PublicationDTO> violation : validator.validateProperty(changes, field)) {
+                throw new InvalidPatchException(field + ": " + violation.getMessage());
+            }
+        });
+        return changes;
+    }
+
+    /**
+     * Store new content unless its hash matches the current one; inline content replaces streamed chunks
+     */
+    private void replaceContent(Publication publication, String content) {
+        if (contentCodec.hash(content).equals(contentCodec.contentHash(publication))) {
+            return;
+        }
+        if (publication.isContentStreamed()) {
+            contentStore.discardChunks(publication.getId());
+            publication.setContentVersion(null);
+            publication.setContentLength(null);
+        }
+        contentCodec.store(publication, content);
+    }
+
+    /**
+     * One page of the newest publications of all shards, merged from per-shard keyset streams
+     */
+    private Page<Publication> findAllAcrossShards(Pageable pageable) {
+        List<Publication> rows = shardRouter.mergeSorted(NEWEST_FIRST_ORDER,
+                pageable.getOffset(), pageable.getPageSize(), (after, chunkSize) -> after == null
+                        ? publicationRepository.findNewest(PageRequest.of(0, chunkSize))
+                        : publicationRepository.findOlderThan(after.getCreatedAt(), after.getId(),
+                                PageRequest.of(0, chunkSize)));
+        long total = shardRouter.scatter(shard -> publicationRepository.count()).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+        return new PageImpl<>(rows, pageable, total);
+    }
+
+    /**
+     * Entity attributes needed to build the requested DTO fields
+     */
+    private Set<String> columnsFor(FieldSelection fields) {
+        Set<String> columns = new LinkedHashSet<>();
+        for (String field : fields.getFields()) {
+            switch (field) {
+                case "author" -> columns.add("authorId");
+                case "content" -> {
+                    columns.add("content");
+                    columns.add("contentCompressed");
+                    columns.add("contentVersion");
+                }
+                default -> columns.add(field);
+            }
+        }
+        return columns;
+    }
+
     /**
      * Enrich publication with author information
      */
@@ -114,7 +377,7 @@ public class PublicationService {
             var authorInfo = authorServiceClient.getAuthorInfo(dto.getAuthorId());
             dto.setAuthor(authorInfo);
         } catch (Exception e) {
-            log.warn("Could not enrich publication with author info: {}", e.getMessage());
+            rateLimitedLog.warn("enrich", "Could not enrich publication with author info: {}", e.getMessage());
             // Continue without author info
         }
         return dto;
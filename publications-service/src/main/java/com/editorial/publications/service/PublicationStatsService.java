@@ -0,0 +1,147 @@
+package com.editorial.publications.service;
+
+import com.editorial.publications.dto.AuthorPublicationStatsDTO;
+import com.editorial.publications.entity.AuthorPublicationStats;
+import com.editorial.publications.entity.PublicationStatus;
+import com.editorial.publications.repository.AuthorPublicationStatsRepository;
+import com.editorial.publications.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains per-author publication counters so profile pages read one row instead of every publication
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class PublicationStatsService {
+
+    private final AuthorPublicationStatsRepository statsRepository;
+    private final ShardRouter shardRouter;
+
+    /**
+     * Count a new publication; joins the caller's transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Long authorId, PublicationStatus status) {
+        long[] delta = new long[PublicationStatus.values().length];
+        delta[status.ordinal()]++;
+        apply(authorId, delta);
+    }
+
+    /**
+     * Move one publication between counters; joins the caller's transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(Long authorId, PublicationStatus from, PublicationStatus to) {
+        if (from == to) {
+            return;
+        }
+        long[] delta = new long[PublicationStatus.values().length];
+        delta[from.ordinal()]--;
+        delta[to.ordinal()]++;
+        apply(authorId, delta);
+    }
+
+    /**
+     * Move many publications between counters with one upsert per author; joins the caller's transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransitions(Map<Long, Long> countByAuthor, PublicationStatus from, PublicationStatus to) {
+        if (from == to) {
+            return;
+        }
+        countByAuthor.forEach((authorId, count) -> {
+            long[] delta = new long[PublicationStatus.values().length];
+            delta[from.ordinal()] -= count;
+            delta[to.ordinal()] += count;
+            apply(authorId, delta);
+        });
+    }
+
+    /**
+     * Get the counters of one author (zeros if the author has no publications)
+     */
+    @Transactional(readOnly = true)
+    public AuthorPublicationStatsDTO getStats(Long authorId) {
+        shardRouter.useAuthorShard(authorId);
+        return statsRepository.findById(authorId)
+                .map(this::toDTO)
+                .orElseGet(() -> empty(authorId));
+    }
+
+    /**
+     * Get the counters of many authors in one query per shard, in the order requested
+     */
+    @Transactional(readOnly = true)
+    public List<AuthorPublicationStatsDTO> getStats(Collection<Long> authorIds) {
+        Map<Long, AuthorPublicationStats> found = shardRouter
+                .scatter(shard -> statsRepository.findAllById(authorIds.stream()
+                        .filter(authorId -> shard.equals(shardRouter.shardOfAuthor(authorId)))
+                        .toList()))
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toMap(AuthorPublicationStats::getAuthorId, Function.identity()));
+        return authorIds.stream()
+                .distinct()
+                .map(id -> found.containsKey(id) ? toDTO(found.get(id)) : empty(id))
+                .toList();
+    }
+
+    /**
+     * Recompute every counter from the publications table
+     */
+    @Scheduled(cron = "${publications.stats.rebuild-cron:-}")
+    public int rebuild() {
+        int authors = 0;
+        for (String shard : shardRouter.getShards()) {
+            Integer rebuilt = shardRouter.inTransaction(shard, false, () -> {
+                statsRepository.lockForRebuild();
+                statsRepository.deleteAllRows();
+                return statsRepository.insertFromPublications();
+            });
+            authors += rebuilt != null ? rebuilt : 0;
+        }
+        log.info("Publication stats rebuilt for {} authors", authors);
+        return authors;
+    }
+
+    private void apply(Long authorId, long[] delta) {
+        statsRepository.applyDelta(authorId,
+                delta[PublicationStatus.DRAFT.ordinal()],
+                delta[PublicationStatus.IN_REVIEW.ordinal()],
+                delta[PublicationStatus.APPROVED.ordinal()],
+                delta[PublicationStatus.PUBLISHED.ordinal()],
+                delta[PublicationStatus.REJECTED.ordinal()],
+                delta[PublicationStatus.REQUIRES_CHANGES.ordinal()]);
+    }
+
+    private AuthorPublicationStatsDTO toDTO(AuthorPublicationStats stats) {
+        return AuthorPublicationStatsDTO.builder()
+                .authorId(stats.getAuthorId())
+                .drafts(stats.getDraftCount())
+                .inReview(stats.getInReviewCount())
+                .approved(stats.getApprovedCount())
+                .published(stats.getPublishedCount())
+                .rejected(stats.getRejectedCount())
+                .requiresChanges(stats.getRequiresChangesCount())
+                .total(stats.getDraftCount() + stats.getInReviewCount() + stats.getApprovedCount()
+                        + stats.getPublishedCount() + stats.getRejectedCount() + stats.getRequiresChangesCount())
+                .build();
+    }
+
+    private AuthorPublicationStatsDTO empty(Long authorId) {
+        return AuthorPublicationStatsDTO.builder().authorId(authorId).build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.editorial.publications.service;
+
+import com.editorial.publications.cache.ResponseCache;
+import com.editorial.publications.dto.PublicationDTO;
+import com.editorial.publications.exception.PublicationInvalidStateException;
+import com.editorial.publications.repository.PublicationRepository;
+import com.editorial.publications.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands IN_REVIEW publications to editors, oldest first. Claims take row locks with SKIP LOCKED, so
+ * concurrent editors each get different rows without waiting on each other. A claim is a lease:
+ * once claim_expires_at passes, the publication is back in the queue. With shards, each claim starts at the
+ * next shard in turn and moves on while it still needs publications.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class ReviewQueueService {
+
+    private final PublicationRepository publicationRepository;
+    private final PublicationMapper publicationMapper;
+    private final ResponseCache responseCache;
+    private final ShardRouter shardRouter;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    @Value("${publications.review-queue.lease:30m}")
+    private Duration lease;
+
+    @Value("${publications.review-queue.max-batch:20}")
+    private int maxBatch;
+
+    /**
+     * Claim up to {@code count} unassigned publications for the editor; may return fewer, or none
+     */
+    public List<PublicationDTO> claim(String editorName, int count) {
+        requireEditor(editorName);
+        int wanted = Math.max(1, Math.min(count, maxBatch));
+        List<String> shards = shardRouter.getShards();
+        int first = Math.floorMod(nextShard.getAndIncrement(), shards.size());
+        List<PublicationDTO> claimed = new ArrayList<>(wanted);
+        for (int i = 0; i < shards.size() && claimed.size() < wanted; i++) {
+            int remaining = wanted - claimed.size();
+            claimed.addAll(shardRouter.inTransaction(shards.get((first + i) % shards.size()), false,
+                    () -> claimOnShard(editorName, remaining)));
+        }
+        if (!claimed.isEmpty()) {
+            log.debug("Editor {} claimed {} publications for review", editorName, claimed.size());
+        }
+        claimed.sort(Comparator.comparing(PublicationDTO::getCreatedAt).thenComparing(PublicationDTO::getId));
+        return claimed;
+    }
+
+    /**
+     * Give a claimed publication back to the queue before its lease expires
+     */
+    public void release(Long id, String editorName) {
+        requireEditor(editorName);
+        shardRouter.usePublicationShard(id);
+        if (publicationRepository.releaseClaim(id, editorName, LocalDateTime.now()) == 0) {
+            throw new PublicationInvalidStateException("Publication " + id + " is not claimed by " + editorName);
+        }
+        responseCache.invalidate();
+    }
+
+    private List<PublicationDTO> claimOnShard(String editorName, int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = publicationRepository.lockUnclaimedForReview(now, count);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        publicationRepository.assignClaims(ids, editorName, now.plus(lease), now);
+        responseCache.invalidate();
+        return publicationRepository.findAllById(ids).stream()
+                .map(publicationMapper::entityToDTO)
+                .toList();
+    }
+
+    private static void requireEditor(String editorName) {
+        if (editorName == null || editorName.isBlank()) {
+            throw new PublicationInvalidStateException("Editor name is required");
+        }
+    }
+}
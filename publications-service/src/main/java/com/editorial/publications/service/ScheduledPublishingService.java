@@ -0,0 +1,214 @@
+package com.editorial.publications.service;
+
+import com.editorial.publications.cache.ResponseCache;
+import com.editorial.publications.dto.PublicationEventDTO;
+import com.editorial.publications.entity.PublicationStatus;
+import com.editorial.publications.repository.PublicationRepository;
+import com.editorial.publications.repository.PublicationRepository.PublishCandidate;
+import com.editorial.publications.scheduling.HashedTimerWheel;
+import com.editorial.publications.sharding.ShardRouter;
+import com.editorial.publications.workflow.EditorialWorkflow;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Publishes APPROVED publications when their publishAt is reached.
+ * Publications due within the horizon sit in an in-process timer wheel, loaded from the database on
+ * startup and on every sweep, so instances also pick up items scheduled elsewhere. Due rows are claimed
+ * with FOR UPDATE SKIP LOCKED and flipped by one UPDATE per batch, so instances never publish the same
+ * row twice and a burst scheduled for one instant is drained in a few transactions.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ScheduledPublishingService {
+
+    private final PublicationRepository publicationRepository;
+    private final PublicationStatsService statsService;
+    private final ResponseCache responseCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EditorialWorkflow workflow;
+    private final ShardRouter shardRouter;
+
+    /** Publications currently in the wheel, with the publishAt they were scheduled for */
+    private final Map<Long, LocalDateTime> inWheel = new ConcurrentHashMap<>();
+
+    @Value("${publications.scheduling.enabled:true}")
+    private boolean enabled;
+
+    @Value("${publications.scheduling.tick:100ms}")
+    private Duration tick;
+
+    @Value("${publications.scheduling.wheel-size:512}")
+    private int wheelSize;
+
+    @Value("${publications.scheduling.batch-size:500}")
+    private int batchSize;
+
+    @Value("${publications.scheduling.horizon:5m}")
+    private Duration horizon;
+
+    private volatile HashedTimerWheel<Long> wheel;
+    private volatile ExecutorService publisher;
+    private volatile LocalDateTime loadedUntil;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (!workflow.canTransition(PublicationStatus.APPROVED, PublicationStatus.PUBLISHED)
+                || workflow.isGuarded(PublicationStatus.APPROVED, PublicationStatus.PUBLISHED)) {
+            throw new IllegalStateException("Scheduled publishing needs an unguarded APPROVED -> PUBLISHED transition");
+        }
+        publisher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduled-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        wheel = new HashedTimerWheel<>("publish-timer-wheel", tick, wheelSize, this::onExpired);
+        sweep();
+    }
+
+    /**
+     * Register a publishAt set or changed by this instance; later times are picked up by a sweep.
+     * Within a transaction the timer is only armed once it commits: a due timer firing earlier would find the
+     * row locked or not yet APPROVED, skip it and leave it to the next sweep.
+     */
+    public void schedule(Long publicationId, LocalDateTime publishAt) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    arm(publicationId, publishAt);
+                }
+            });
+        } else {
+            arm(publicationId, publishAt);
+        }
+    }
+
+    private void arm(Long publicationId, LocalDateTime publishAt) {
+        HashedTimerWheel<Long> current = wheel;
+        LocalDateTime until = loadedUntil;
+        if (current == null || publishAt == null || until == null || publishAt.isAfter(until)) {
+            return;
+        }
+        if (!publishAt.equals(inWheel.put(publicationId, publishAt))) {
+            current.schedule(publicationId, publishAt.atZone(ZoneId.systemDefault()).toInstant());
+        }
+    }
+
+    /**
+     * Safety net and refill: publish anything overdue (missed timers, other instances' items) and
+     * load the next horizon into the wheel
+     */
+    @Scheduled(fixedDelayString = "${publications.scheduling.sweep-interval-ms:30000}",
+            initialDelayString = "${publications.scheduling.sweep-interval-ms:30000}")
+    public void sweep() {
+        if (wheel == null) {
+            return;
+        }
+        for (String shard : shardRouter.getShards()) {
+            int published;
+            do {
+                published = publishBatch(shard, null);
+            } while (published >= batchSize);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(horizon);
+        List<PublicationRepository.ScheduledPublication> upcoming = shardRouter
+                .scatter(shard -> publicationRepository.findScheduledBetween(now, until)).stream()
+                .flatMap(List::stream)
+                .toList();
+        loadedUntil = until;
+        for (PublicationRepository.ScheduledPublication item : upcoming) {
+            schedule(item.getId(), item.getPublishAt());
+        }
+        log.debug("Scheduled publishing sweep: {} upcoming within {}", upcoming.size(), horizon);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (wheel != null) {
+            wheel.close();
+            publisher.shutdownNow();
+        }
+    }
+
+    private void onExpired(List<Long> ids) {
+        ids.forEach(inWheel::remove);
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> batch = ids.subList(from, Math.min(ids.size(), from + batchSize));
+            publisher.execute(() -> {
+                try {
+                    // The wheel does not know where each id lives; every shard claims the ids it holds
+                    for (String shard : shardRouter.getShards()) {
+                        publishBatch(shard, batch);
+                    }
+                } catch (RuntimeException e) {
+                    // The sweep retries anything still due
+                    log.error("Scheduled publishing of {} publications failed", batch.size(), e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Claim and publish due rows, either the given ids or the oldest overdue ones; returns how many were published
+     */
+    private int publishBatch(String shard, List<Long> ids) {
+        Integer published = shardRouter.inTransaction(shard, false, () -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<PublishCandidate> due = ids != null
+                    ? publicationRepository.lockDueForPublishing(ids, now)
+                    : publicationRepository.lockDueForPublishing(now, batchSize);
+            if (due.isEmpty()) {
+                return 0;
+            }
+
+            publicationRepository.updateStatus(due.stream().map(PublishCandidate::getId).toList(),
+                    PublicationStatus.PUBLISHED, now);
+            Map<Long, Long> countByAuthor = due.stream()
+                    .collect(Collectors.groupingBy(PublishCandidate::getAuthorId, Collectors.counting()));
+            statsService.recordTransitions(countByAuthor, PublicationStatus.APPROVED, PublicationStatus.PUBLISHED);
+            responseCache.invalidate();
+            for (PublishCandidate candidate : due) {
+                eventPublisher.publishEvent(PublicationEventDTO.builder()
+                        .type(PublicationEventDTO.Type.STATUS_CHANGED)
+                        .publicationId(candidate.getId())
+                        .authorId(candidate.getAuthorId())
+                        .title(candidate.getTitle())
+                        .previousStatus(PublicationStatus.APPROVED)
+                        .status(PublicationStatus.PUBLISHED)
+                        .timestamp(now)
+                        .build());
+            }
+            return due.size();
+        });
+        if (published != null && published > 0) {
+            log.info("Published {} scheduled publications", published);
+        }
+        return published != null ? published : 0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.editorial.publications.sharding;
+
+/**
+ * Shard selected for the current thread; read by ShardRoutingDataSource when a connection is fetched
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Select a shard; returns the previous selection, to be passed to {@link #restore}
+     */
+    public static String enter(String shard) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+
+    public static void restore(String previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.editorial.publications.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publication shards, enabled with datasource.shards.enabled=true.
+ * Shards share the primary's credentials and driver; spring.datasource.url is not used.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.shards.enabled", havingValue = "true")
+public class ShardDataSourceConfig {
+
+    @Value("${datasource.shards.urls}")
+    private List<String> shardUrls;
+
+    @Value("${datasource.shards.id-stride:64}")
+    private int idStride;
+
+    @Value("${datasource.replicas.enabled:false}")
+    private boolean replicasEnabled;
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(DataSourceProperties properties) {
+        if (replicasEnabled) {
+            throw new IllegalStateException("datasource.shards and datasource.replicas cannot be enabled together");
+        }
+        if (shardUrls.isEmpty() || shardUrls.size() > idStride) {
+            throw new IllegalStateException("datasource.shards.urls needs between 1 and " + idStride + " URLs");
+        }
+
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        for (int i = 0; i < shardUrls.size(); i++) {
+            HikariDataSource shard = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(shardUrls.get(i).trim())
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            shard.setPoolName("shard-" + i);
+            shards.put(shard.getPoolName(), shard);
+        }
+        return new ShardRoutingDataSource(shards, idStride);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+}
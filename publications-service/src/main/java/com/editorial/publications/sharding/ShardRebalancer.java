@@ -0,0 +1,240 @@
+package com.editorial.publications.sharding;
+
+import com.editorial.publications.service.PublicationArchiver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Moves authors whose owner on the ShardRing is not the shard holding their rows, which is what happens to
+ * about 1/N of the authors when a shard is appended to datasource.shards.urls. Runs in the background after
+ * startup, one author per pair of transactions: the author's rows are locked on the source, copied to the
+ * target and committed there, then deleted from the source. Until that author is done, its listings on the
+ * new shard are incomplete. Moved rows are recorded in publication_relocations on the target, which ShardRouter
+ * reads to route lookups by id; other instances see a move after their next relocation refresh.
+ * If the source delete fails after the target commit, the next run finds the author again; copies skip
+ * rows that already exist and the counters are recomputed, so moving twice is harmless.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ShardRebalancer {
+
+    private static final int BATCH_SIZE = 16;
+
+    private final ShardRouter shardRouter;
+
+    @Value("${datasource.shards.rebalance-on-startup:true}")
+    private boolean rebalanceOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!shardRouter.isSharded() || !rebalanceOnStartup) {
+            return;
+        }
+        Thread worker = new Thread(() -> {
+            try {
+                rebalance();
+            } catch (RuntimeException e) {
+                log.error("Shard rebalance stopped: {}", e.getMessage(), e);
+            }
+        }, "shard-rebalancer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Move every misplaced author to its owner; returns how many authors were moved
+     */
+    public int rebalance() {
+        int moved = 0;
+        for (String source : shardRouter.getShards()) {
+            for (Long authorId : authorsOn(source)) {
+                String target = shardRouter.shardOfAuthor(authorId);
+                if (!target.equals(source)) {
+                    moveAuthor(authorId, source, target);
+                    moved++;
+                }
+            }
+        }
+        if (moved > 0) {
+            log.info("Shard rebalance moved {} authors", moved);
+        }
+        return moved;
+    }
+
+    private List<Long> authorsOn(String shard) {
+        try (Connection connection = shardRouter.getDataSource(shard).getConnection();
+             PreparedStatement query = connection.prepareStatement(
+                     "SELECT author_id FROM publications UNION SELECT author_id FROM author_publication_stats");
+             ResultSet rs = query.executeQuery()) {
+            List<Long> authors = new ArrayList<>();
+            while (rs.next()) {
+                authors.add(rs.getLong(1));
+            }
+            return authors;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not list the authors of shard " + shard, e);
+        }
+    }
+
+    private void moveAuthor(Long authorId, String source, String target) {
+        try (Connection from = shardRouter.getDataSource(source).getConnection();
+             Connection to = shardRouter.getDataSource(target).getConnection()) {
+            from.setAutoCommit(false);
+            to.setAutoCommit(false);
+            try {
+                // Writes to the author's rows on the source wait here until they are gone
+                List<Long> publications = longs(from, "SELECT id FROM publications WHERE author_id = ? FOR UPDATE",
+                        authorId);
+
+                for (String month : strings(from, "SELECT DISTINCT to_char(archived_at, 'YYYY-MM') FROM publications "
+                        + "WHERE author_id = ? AND archived", authorId)) {
+                    String ddl = PublicationArchiver.partitionDdl(YearMonth.parse(month));
+                    try (PreparedStatement statement = to.prepareStatement(ddl)) {
+                        statement.execute();
+                    }
+                }
+                copy(from, to, "publications", "SELECT * FROM publications WHERE author_id = ?", authorId);
+                copy(from, to, "publication_content_chunks", "SELECT c.* FROM publication_content_chunks c "
+                        + "JOIN publications p ON p.id = c.publication_id WHERE p.author_id = ?", authorId);
+                recomputeStats(to, authorId);
+                execute(to, "INSERT INTO publication_relocations (publication_id) "
+                        + "SELECT id FROM publications WHERE author_id = ? ON CONFLICT DO NOTHING", authorId);
+                to.commit();
+                shardRouter.recordRelocations(publications, target);
+
+                execute(from, "DELETE FROM publication_content_chunks WHERE publication_id IN "
+                        + "(SELECT id FROM publications WHERE author_id = ?)", authorId);
+                execute(from, "DELETE FROM publication_relocations WHERE publication_id IN "
+                        + "(SELECT id FROM publications WHERE author_id = ?)", authorId);
+                execute(from, "DELETE FROM publications WHERE author_id = ?", authorId);
+                execute(from, "DELETE FROM author_publication_stats WHERE author_id = ?", authorId);
+                from.commit();
+                log.debug("Moved author {} ({} publications) from {} to {}",
+                        authorId, publications.size(), source, target);
+            } catch (SQLException | RuntimeException e) {
+                to.rollback();
+                from.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(
+                    "Could not move author " + authorId + " from " + source + " to " + target, e);
+        }
+    }
+
+    /**
+     * Copy the selected rows column by column; rows already present on the target are skipped
+     */
+    private static void copy(Connection from, Connection to, String table, String select, Long authorId)
+            throws SQLException {
+        try (PreparedStatement query = from.prepareStatement(select)) {
+            query.setLong(1, authorId);
+            try (ResultSet rs = query.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                int columns = meta.getColumnCount();
+                StringJoiner names = new StringJoiner(", ");
+                StringJoiner values = new StringJoiner(", ");
+                for (int i = 1; i <= columns; i++) {
+                    names.add(meta.getColumnName(i));
+                    values.add("?");
+                }
+                String insert = "INSERT INTO " + table + " (" + names + ") VALUES (" + values + ") "
+                        + "ON CONFLICT DO NOTHING";
+                try (PreparedStatement out = to.prepareStatement(insert)) {
+                    int pending = 0;
+                    while (rs.next()) {
+                        for (int i = 1; i <= columns; i++) {
+                            out.setObject(i, rs.getObject(i));
+                        }
+                        out.addBatch();
+                        if (++pending == BATCH_SIZE) {
+                            out.executeBatch();
+                            pending = 0;
+                        }
+                    }
+                    if (pending > 0) {
+                        out.executeBatch();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Counters on the target may already include publications created there during the move, so they are
+     * rebuilt from the target's rows rather than copied
+     */
+    private static void recomputeStats(Connection to, Long authorId) throws SQLException {
+        execute(to, """
+                INSERT INTO author_publication_stats (author_id, draft_count, in_review_count, approved_count,
+                                                      published_count, rejected_count, requires_changes_count, updated_at)
+                SELECT author_id,
+                       COUNT(*) FILTER (WHERE status = 'DRAFT'),
+                       COUNT(*) FILTER (WHERE status = 'IN_REVIEW'),
+                       COUNT(*) FILTER (WHERE status = 'APPROVED'),
+                       COUNT(*) FILTER (WHERE status = 'PUBLISHED'),
+                       COUNT(*) FILTER (WHERE status = 'REJECTED'),
+                       COUNT(*) FILTER (WHERE status = 'REQUIRES_CHANGES'),
+                       now()
+                FROM publications
+                WHERE author_id = ?
+                GROUP BY author_id
+                ON CONFLICT (author_id) DO UPDATE SET
+                    draft_count = EXCLUDED.draft_count,
+                    in_review_count = EXCLUDED.in_review_count,
+                    approved_count = EXCLUDED.approved_count,
+                    published_count = EXCLUDED.published_count,
+                    rejected_count = EXCLUDED.rejected_count,
+                    requires_changes_count = EXCLUDED.requires_changes_count,
+                    updated_at = now()
+                """, authorId);
+    }
+
+    private static List<Long> longs(Connection connection, String sql, Long authorId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, authorId);
+            try (ResultSet rs = statement.executeQuery()) {
+                List<Long> values = new ArrayList<>();
+                while (rs.next()) {
+                    values.add(rs.getLong(1));
+                }
+                return values;
+            }
+        }
+    }
+
+    private static List<String> strings(Connection connection, String sql, Long authorId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, authorId);
+            try (ResultSet rs = statement.executeQuery()) {
+                List<String> values = new ArrayList<>();
+                while (rs.next()) {
+                    values.add(rs.getString(1));
+                }
+                return values;
+            }
+        }
+    }
+
+    private static void execute(Connection connection, String sql, Long authorId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, authorId);
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.editorial.publications.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent hash ring over the shard names. Each shard owns {@code virtualNodes} points on the ring and an
+ * author belongs to the first point at or after the hash of its id, so adding a shard only moves the authors
+ * that fall on the new shard's points (about 1/N of them) and leaves every other author where it was.
+ */
+public class ShardRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final List<String> shards;
+
+    public ShardRing(List<String> shards, int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = List.copyOf(shards);
+        for (String shard : shards) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(shard + "#" + i), shard);
+            }
+        }
+    }
+
+    public String shardFor(long authorId) {
+        Map.Entry<Long, String> owner = ring.ceilingEntry(mix(authorId));
+        return (owner != null ? owner : ring.firstEntry()).getValue();
+    }
+
+    public List<String> getShards() {
+        return shards;
+    }
+
+    /**
+     * FNV-1a, then mixed so that similar shard names still spread over the whole ring
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * SplitMix64 finalizer; sequential author ids land on unrelated points
+     */
+    private static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
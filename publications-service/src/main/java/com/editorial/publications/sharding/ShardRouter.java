@@ -0,0 +1,293 @@
+package com.editorial.publications.sharding;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Decides which shard a piece of work runs on. Publications live on the shard that owns their author on the
+ * ShardRing, so anything scoped to one author touches one database; global queries scatter to every shard
+ * in parallel and gather the results. Without datasource.shards.enabled there is a single "default" shard
+ * and every method degrades to running the work in place.
+ */
+@Component
+@Slf4j
+public class ShardRouter {
+
+    public static final String DEFAULT_SHARD = "default";
+
+    private final ShardRoutingDataSource routing;
+    private final ShardRing ring;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService scatterPool;
+    private final Map<Long, String> relocations = new ConcurrentHashMap<>();
+
+    @Value("${datasource.shards.merge-chunk-size:500}")
+    private int mergeChunkSize;
+
+    public ShardRouter(ObjectProvider<ShardRoutingDataSource> routing, PlatformTransactionManager transactionManager,
+                       @Value("${datasource.shards.virtual-nodes:128}") int virtualNodes,
+                       @Value("${datasource.shards.scatter-threads:8}") int scatterThreads) {
+        this.routing = routing.getIfAvailable();
+        this.transactionManager = transactionManager;
+        if (this.routing != null) {
+            this.ring = new ShardRing(List.copyOf(this.routing.getShards().keySet()), virtualNodes);
+            this.scatterPool = Executors.newFixedThreadPool(scatterThreads, runnable -> {
+                Thread thread = new Thread(runnable, "shard-scatter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            log.info("Publications sharded over {}", ring.getShards());
+        } else {
+            this.ring = new ShardRing(List.of(DEFAULT_SHARD), 1);
+            this.scatterPool = null;
+        }
+    }
+
+    public boolean isSharded() {
+        return routing != null;
+    }
+
+    public List<String> getShards() {
+        return ring.getShards();
+    }
+
+    public DataSource getDataSource(String shard) {
+        if (routing == null) {
+            throw new IllegalStateException("Publications are not sharded");
+        }
+        return routing.getShards().get(shard);
+    }
+
+    public String shardOfAuthor(Long authorId) {
+        return isSharded() ? ring.shardFor(authorId) : DEFAULT_SHARD;
+    }
+
+    /**
+     * Shard holding the publication: the one that allocated the id (by its sequence offset, or by its
+     * legacy id mark for ids from before sharding), unless ShardRebalancer has moved the row. Answered from
+     * memory; unknown ids resolve to a shard that will report them missing.
+     */
+    public String locatePublication(Long id) {
+        if (!isSharded()) {
+            return DEFAULT_SHARD;
+        }
+        String relocatedTo = relocations.get(id);
+        if (relocatedTo != null) {
+            return relocatedTo;
+        }
+        String allocatedBy = routing.shardForId(id);
+        return allocatedBy != null ? allocatedBy : getShards().get(0);
+    }
+
+    /**
+     * Note publications that now live on {@code shard}; called by ShardRebalancer once the move has committed
+     */
+    public void recordRelocations(Collection<Long> ids, String shard) {
+        ids.forEach(id -> relocations.put(id, shard));
+    }
+
+    /**
+     * Reload the id allocation and the publication_relocations rows of every shard, picking up shards aligned
+     * and moves made by other instances
+     */
+    @Scheduled(fixedDelayString = "${datasource.shards.relocation-refresh-interval-ms:10000}")
+    public void refreshRelocations() {
+        if (!isSharded()) {
+            return;
+        }
+        try {
+            routing.loadIdAllocation();
+        } catch (DataAccessException e) {
+            log.warn("Could not load the id allocation of the shards: {}", e.getMessage());
+        }
+        for (String shard : getShards()) {
+            try {
+                new JdbcTemplate(getDataSource(shard)).query("SELECT publication_id FROM publication_relocations",
+                        (RowCallbackHandler) rs -> relocations.put(rs.getLong(1), shard));
+            } catch (DataAccessException e) {
+                log.warn("Could not load the publication relocations of shard {}: {}", shard, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Bind the current transaction to the author's shard; call before the transaction's first query
+     */
+    public void useAuthorShard(Long authorId) {
+        select(shardOfAuthor(authorId));
+    }
+
+    /**
+     * Bind the current transaction to the publication's shard; call before the transaction's first query
+     */
+    public void usePublicationShard(Long id) {
+        select(locatePublication(id));
+    }
+
+    /**
+     * Run {@code work} in a transaction on the shard. Sharded, this is always a new transaction, since a
+     * transaction cannot span databases; unsharded, it joins the current one like a plain TransactionTemplate.
+     */
+    public <T> T inTransaction(String shard, boolean readOnly, Supplier<T> work) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(readOnly);
+        if (!isSharded()) {
+            return tx.execute(status -> work.get());
+        }
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        String previous = ShardContext.enter(shard);
+        try {
+            return tx.execute(status -> work.get());
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    /**
+     * Run {@code query} on every shard in parallel, each in a read-only transaction; results in shard order
+     */
+    public <T> List<T> scatter(Function<String, T> query) {
+        if (!isSharded()) {
+            return List.of(inTransaction(DEFAULT_SHARD, true, () -> query.apply(DEFAULT_SHARD)));
+        }
+        List<CompletableFuture<T>> futures = getShards().stream()
+                .map(shard -> CompletableFuture.supplyAsync(
+                        () -> inTransaction(shard, true, () -> query.apply(shard)), scatterPool))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Rows {@code offset .. offset + limit - 1} of the union of all shards under {@code order}.
+     * Each shard is read as a keyset stream: {@code nextChunk.apply(after, size)} returns up to {@code size}
+     * rows following {@code after} (the first rows when null) in {@code order}. The first chunks are fetched
+     * in parallel and merged with a heap; a shard is only asked for its next chunk once the merge has
+     * consumed the previous one.
+     */
+    public <T> List<T> mergeSorted(Comparator<? super T> order, long offset, int limit,
+                                   BiFunction<T, Integer, List<T>> nextChunk) {
+        int chunkSize = (int) Math.max(1, Math.min(offset + limit, mergeChunkSize));
+        List<List<T>> firstChunks = scatter(shard -> nextChunk.apply(null, chunkSize));
+
+        PriorityQueue<Cursor<T>> heap = new PriorityQueue<>((a, b) -> order.compare(a.head(), b.head()));
+        for (int i = 0; i < firstChunks.size(); i++) {
+            if (!firstChunks.get(i).isEmpty()) {
+                heap.add(new Cursor<>(getShards().get(i), firstChunks.get(i), chunkSize));
+            }
+        }
+
+        List<T> rows = new ArrayList<>(limit);
+        long skipped = 0;
+        while (rows.size() < limit && !heap.isEmpty()) {
+            Cursor<T> cursor = heap.poll();
+            T row = cursor.advance();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                rows.add(row);
+            }
+            if (cursor.hasNext()) {
+                heap.add(cursor);
+            } else if (rows.size() < limit
+                    && cursor.refill(() -> inTransaction(cursor.shard, true, () -> nextChunk.apply(row, chunkSize)))) {
+                heap.add(cursor);
+            }
+        }
+        return rows;
+    }
+
+    private void select(String shard) {
+        if (!isSharded()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Selecting a shard requires an active transaction");
+        }
+        String previous = ShardContext.enter(shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                ShardContext.restore(previous);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scatterPool != null) {
+            scatterPool.shutdownNow();
+        }
+    }
+
+    private static final class Cursor<T> {
+        private final String shard;
+        private final int chunkSize;
+        private List<T> chunk;
+        private int position;
+
+        private Cursor(String shard, List<T> chunk, int chunkSize) {
+            this.shard = shard;
+            this.chunk = chunk;
+            this.chunkSize = chunkSize;
+        }
+
+        private T head() {
+            return chunk.get(position);
+        }
+
+        private T advance() {
+            return chunk.get(position++);
+        }
+
+        private boolean hasNext() {
+            return position < chunk.size();
+        }
+
+        /**
+         * Load the next chunk once the current one is used up; false when the shard has no more rows
+         */
+        private boolean refill(Supplier<List<T>> next) {
+            if (chunk.size() < chunkSize) {
+                return false;
+            }
+            chunk = next.get();
+            position = 0;
+            return !chunk.isEmpty();
+        }
+    }
+}
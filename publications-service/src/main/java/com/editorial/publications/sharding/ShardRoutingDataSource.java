@@ -0,0 +1,179 @@
+package com.editorial.publications.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Routes connections to the shard selected in ShardContext; without a selection, to the first shard,
+ * which also holds the tables that are not sharded (idempotency_keys).
+ * Must be wrapped in a LazyConnectionDataSourceProxy so the connection is only fetched once the
+ * service has selected the shard of the transaction.
+ */
+@Slf4j
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String RECORD_ALIGNED_LEGACY_IDS = """
+            INSERT INTO publication_legacy_ids (max_id)
+            SELECT COALESCE(MAX(id), 0) FROM publications
+            WHERE mod(id, ?) <> ? AND id NOT IN (SELECT publication_id FROM publication_relocations)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private final Map<String, DataSource> shards;
+    private final String defaultShard;
+    private final int idStride;
+
+    /** Where ids were allocated; null until loaded from the shards */
+    private volatile IdAllocation idAllocation;
+
+    public ShardRoutingDataSource(Map<String, DataSource> shards, int idStride) {
+        this.shards = Collections.unmodifiableMap(new LinkedHashMap<>(shards));
+        this.defaultShard = shards.keySet().iterator().next();
+        this.idStride = idStride;
+        setTargetDataSources(new HashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(defaultShard));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String shard = ShardContext.current();
+        return shard != null ? shard : defaultShard;
+    }
+
+    /**
+     * Shard data sources in configuration order
+     */
+    public Map<String, DataSource> getShards() {
+        return shards;
+    }
+
+    /**
+     * Shard that allocated the id, or null if unknown; rows may have moved since (ShardRebalancer).
+     * Ids from before the sequences were aligned belong to the shard that held them then; later ids to the
+     * shard whose offset they have. Loaded from the shards on first use.
+     */
+    public String shardForId(long id) {
+        IdAllocation allocation = idAllocation;
+        if (allocation == null) {
+            allocation = loadIdAllocation();
+        }
+        for (Map.Entry<String, Long> legacy : allocation.legacyMaxIds().entrySet()) {
+            if (id <= legacy.getValue()) {
+                return legacy.getKey();
+            }
+        }
+        return allocation.shardsByOffset().get((int) Math.floorMod(id, (long) idStride));
+    }
+
+    /**
+     * Re-read every shard's publication_id_seq offset and legacy id mark; independent of who ran the
+     * migrations, so instances started with migrations.run-on-startup=false route the same way
+     */
+    public IdAllocation loadIdAllocation() {
+        Map<Integer, String> offsets = new HashMap<>();
+        Map<String, Long> legacyMaxIds = new LinkedHashMap<>();
+        for (Map.Entry<String, DataSource> shard : shards.entrySet()) {
+            JdbcTemplate jdbc = new JdbcTemplate(shard.getValue());
+            if (increment(jdbc, "publication_id_seq") == idStride) {
+                long lastValue = jdbc.queryForObject("SELECT last_value FROM publication_id_seq", Long.class);
+                offsets.put((int) Math.floorMod(lastValue, (long) idStride), shard.getKey());
+            }
+            jdbc.query("SELECT max_id FROM publication_legacy_ids",
+                    (RowCallbackHandler) rs -> legacyMaxIds.put(shard.getKey(), rs.getLong(1)));
+        }
+        IdAllocation allocation = new IdAllocation(Map.copyOf(offsets), Collections.unmodifiableMap(legacyMaxIds));
+        idAllocation = allocation;
+        return allocation;
+    }
+
+    /**
+     * Make publication ids unique across shards: every shard's publication_id_seq counts in steps of
+     * {@code idStride} from its own offset. Shards seen for the first time (increment 1) are moved past the
+     * highest id of any shard, onto an offset no other shard uses; each shard records its highest id at that
+     * point, below which ids do not follow the offsets. Content versions get the same treatment,
+     * so chunks keep unique versions when ShardRebalancer moves them. Runs after the migrations.
+     */
+    public void alignIdSequences() {
+        align("publication_id_seq", "SELECT COALESCE(MAX(id), 0) FROM publications", true);
+        align("publication_content_version_seq", "SELECT COALESCE(MAX(content_version), 0) FROM publications",
+                false);
+        loadIdAllocation();
+    }
+
+    private void align(String sequence, String highestQuery, boolean recordLegacyIds) {
+        long highest = 0;
+        BitSet usedOffsets = new BitSet(idStride);
+        for (Map.Entry<String, DataSource> shard : shards.entrySet()) {
+            JdbcTemplate jdbc = new JdbcTemplate(shard.getValue());
+            long lastValue = jdbc.queryForObject("SELECT last_value FROM " + sequence, Long.class);
+            highest = Math.max(highest, Math.max(lastValue, jdbc.queryForObject(highestQuery, Long.class)));
+            if (increment(jdbc, sequence) == idStride) {
+                int offset = (int) Math.floorMod(lastValue, (long) idStride);
+                usedOffsets.set(offset);
+                if (recordLegacyIds) {
+                    // Aligned before legacy ids were recorded: those are the ids off the offset that were not
+                    // moved here by ShardRebalancer
+                    jdbc.update(RECORD_ALIGNED_LEGACY_IDS, idStride, offset);
+                }
+            }
+        }
+
+        long base = (highest / idStride + 1) * idStride;
+        for (Map.Entry<String, DataSource> shard : shards.entrySet()) {
+            JdbcTemplate jdbc = new JdbcTemplate(shard.getValue());
+            if (increment(jdbc, sequence) == idStride) {
+                continue;
+            }
+            int offset = usedOffsets.nextClearBit(0);
+            if (offset >= idStride) {
+                throw new IllegalStateException("No free " + sequence + " offset left for shard " + shard.getKey()
+                        + "; raise datasource.shards.id-stride");
+            }
+            if (recordLegacyIds) {
+                jdbc.update("INSERT INTO publication_legacy_ids (max_id) VALUES (?) ON CONFLICT (id) DO NOTHING",
+                        jdbc.queryForObject(highestQuery, Long.class));
+            }
+            jdbc.execute("ALTER SEQUENCE " + sequence + " INCREMENT BY " + idStride);
+            jdbc.queryForObject("SELECT setval(?, ?, false)", Long.class, sequence, base + offset);
+            usedOffsets.set(offset);
+            log.info("Shard {} allocates {} values from {} in steps of {}", shard.getKey(), sequence, base + offset,
+                    idStride);
+        }
+    }
+
+    private static long increment(JdbcTemplate jdbc, String sequence) {
+        return jdbc.queryForObject("SELECT increment_by FROM pg_sequences WHERE sequencename = ?",
+                Long.class, sequence);
+    }
+
+    /**
+     * Shard by id offset (id % idStride) of the ids its sequence hands out, and the highest pre-alignment id
+     * of each shard that had publications before sharding, in shard order
+     */
+    public record IdAllocation(Map<Integer, String> shardsByOffset, Map<String, Long> legacyMaxIds) {
+    }
+
+    @Override
+    public void destroy() {
+        for (DataSource dataSource : shards.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.debug("Failed to close data source: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.editorial.publications.workflow;
+
+import com.editorial.publications.entity.PublicationStatus;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reduces the BPMN process to status transitions. Nodes carrying editorial:status are states;
+ * every path from one state to a different state through unmarked nodes (gateways, service tasks,
+ * intermediate user tasks) becomes a transition guarded by the editorial:guards of its flows.
+ */
+final class BpmnWorkflowCompiler {
+
+    static final String BPMN_NS = "http://www.omg.org/spec/BPMN/20100524/MODEL";
+    static final String EDITORIAL_NS = "http://editorial.com/schema/workflow";
+
+    private BpmnWorkflowCompiler() {
+    }
+
+    /**
+     * Returns, per source status, the reachable target statuses and the guards on the way
+     */
+    static Map<PublicationStatus, Map<PublicationStatus, Set<WorkflowGuard>>> compile(InputStream definition) {
+        Element process = parseProcess(definition);
+        Map<String, PublicationStatus> states = new HashMap<>();
+        Map<String, List<Flow>> outgoing = new HashMap<>();
+
+        NodeList children = process.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            if (!(children.item(i) instanceof Element element) || !BPMN_NS.equals(element.getNamespaceURI())) {
+                continue;
+            }
+            if ("sequenceFlow".equals(element.getLocalName())) {
+                outgoing.computeIfAbsent(element.getAttribute("sourceRef"), k -> new ArrayList<>())
+                        .add(new Flow(element.getAttribute("targetRef"), parseGuards(element)));
+            } else if (element.hasAttributeNS(EDITORIAL_NS, "status")) {
+                states.put(element.getAttribute("id"), parseStatus(element));
+            }
+        }
+
+        Map<PublicationStatus, Map<PublicationStatus, Set<WorkflowGuard>>> transitions = new EnumMap<>(PublicationStatus.class);
+        states.forEach((nodeId, status) -> {
+            Map<PublicationStatus, Set<WorkflowGuard>> targets =
+                    transitions.computeIfAbsent(status, s -> new EnumMap<>(PublicationStatus.class));
+            collectTransitions(nodeId, status, states, outgoing, targets);
+        });
+        return transitions;
+    }
+
+    private static void collectTransitions(String start, PublicationStatus from, Map<String, PublicationStatus> states,
+                                           Map<String, List<Flow>> outgoing,
+                                           Map<PublicationStatus, Set<WorkflowGuard>> targets) {
+        Deque<Path> pending = new ArrayDeque<>();
+        Set<String> visited = new HashSet<>();
+        pending.push(new Path(start, Set.of()));
+        visited.add(start);
+
+        while (!pending.isEmpty()) {
+            Path path = pending.pop();
+            for (Flow flow : outgoing.getOrDefault(path.nodeId(), List.of())) {
+                Set<WorkflowGuard> guards = new LinkedHashSet<>(path.guards());
+                guards.addAll(flow.guards());
+                PublicationStatus to = states.get(flow.targetRef());
+
+                if (to != null && to != from) {
+                    Set<WorkflowGuard> previous = targets.putIfAbsent(to, guards);
+                    if (previous != null && !previous.equals(guards)) {
+                        throw new IllegalStateException("BPMN definition has conflicting guards for " + from + " -> " + to);
+                    }
+                } else if (visited.add(flow.targetRef())) {
+                    pending.push(new Path(flow.targetRef(), guards));
+                }
+            }
+        }
+    }
+
+    private static Element parseProcess(InputStream definition) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            Document document = factory.newDocumentBuilder().parse(definition);
+            NodeList processes = document.getElementsByTagNameNS(BPMN_NS, "process");
+            if (processes.getLength() != 1) {
+                throw new IllegalStateException("BPMN definition must contain exactly one process");
+            }
+            return (Element) processes.item(0);
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not parse BPMN workflow definition", e);
+        }
+    }
+
+    private static PublicationStatus parseStatus(Element element) {
+        String value = element.getAttributeNS(EDITORIAL_NS, "status");
+        try {
+            return PublicationStatus.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unknown status '" + value + "' on BPMN node " + element.getAttribute("id"));
+        }
+    }
+
+    private static Set<WorkflowGuard> parseGuards(Element flow) {
+        String value = flow.getAttributeNS(EDITORIAL_NS, "guards");
+        Set<WorkflowGuard> guards = new LinkedHashSet<>();
+        for (String name : value.split(",")) {
+            if (!name.isBlank()) {
+                guards.add(WorkflowGuard.fromBpmnName(name.trim()));
+            }
+        }
+        return guards;
+    }
+
+    private record Flow(String targetRef, Set<WorkflowGuard> guards) {
+    }
+
+    private record Path(String nodeId, Set<WorkflowGuard> guards) {
+    }
+}
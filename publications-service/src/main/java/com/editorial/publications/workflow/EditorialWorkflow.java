@@ -0,0 +1,126 @@
+package com.editorial.publications.workflow;
+
+import com.editorial.publications.dto.WorkflowTransitionDTO;
+import com.editorial.publications.entity.Publication;
+import com.editorial.publications.entity.PublicationStatus;
+import com.editorial.publications.exception.PublicationInvalidStateException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Editorial state machine compiled from bpmn/editorial-process.bpmn at startup.
+ * Allowed targets are a bitmask per source status and guards a [from][to] array table,
+ * so checking a transition is two array lookups and a loop over enum constants.
+ */
+@Component
+@Slf4j
+public class EditorialWorkflow {
+
+    private static final PublicationStatus[] STATUSES = PublicationStatus.values();
+    private static final WorkflowGuard[] NO_GUARDS = new WorkflowGuard[0];
+
+    private final int[] allowedTargets = new int[STATUSES.length];
+    private final WorkflowGuard[][][] guards = new WorkflowGuard[STATUSES.length][STATUSES.length][];
+    private final Map<PublicationStatus, Set<PublicationStatus>> nextStates;
+
+    public EditorialWorkflow(@Value("${publications.workflow.definition:classpath:bpmn/editorial-process.bpmn}")
+                             Resource definition) {
+        Map<PublicationStatus, Map<PublicationStatus, Set<WorkflowGuard>>> transitions;
+        try (InputStream in = definition.getInputStream()) {
+            transitions = BpmnWorkflowCompiler.compile(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read workflow definition " + definition, e);
+        }
+
+        Map<PublicationStatus, Set<PublicationStatus>> next = new EnumMap<>(PublicationStatus.class);
+        for (PublicationStatus from : STATUSES) {
+            Map<PublicationStatus, Set<WorkflowGuard>> targets = transitions.getOrDefault(from, Map.of());
+            EnumSet<PublicationStatus> targetSet = EnumSet.noneOf(PublicationStatus.class);
+            for (PublicationStatus to : STATUSES) {
+                Set<WorkflowGuard> transitionGuards = targets.get(to);
+                if (transitionGuards != null) {
+                    allowedTargets[from.ordinal()] |= 1 << to.ordinal();
+                    guards[from.ordinal()][to.ordinal()] = transitionGuards.toArray(NO_GUARDS);
+                    targetSet.add(to);
+                } else {
+                    guards[from.ordinal()][to.ordinal()] = NO_GUARDS;
+                }
+            }
+            next.put(from, Collections.unmodifiableSet(targetSet));
+        }
+        this.nextStates = Collections.unmodifiableMap(next);
+        log.info("Editorial workflow compiled: {}", nextStates);
+    }
+
+    public boolean canTransition(PublicationStatus from, PublicationStatus to) {
+        return (allowedTargets[from.ordinal()] & (1 << to.ordinal())) != 0;
+    }
+
+    public boolean isGuarded(PublicationStatus from, PublicationStatus to) {
+        return guards[from.ordinal()][to.ordinal()].length > 0;
+    }
+
+    public boolean isFinal(PublicationStatus status) {
+        return allowedTargets[status.ordinal()] == 0;
+    }
+
+    /**
+     * Throws PublicationInvalidStateException unless the transition exists and all its guards pass
+     */
+    public void checkTransition(Publication publication, PublicationStatus to) {
+        PublicationStatus from = publication.getStatus();
+        if (!canTransition(from, to)) {
+            throw new PublicationInvalidStateException("Cannot change publication status from " + from + " to " + to);
+        }
+        WorkflowGuard failed = firstFailingGuard(publication, from, to);
+        if (failed != null) {
+            throw new PublicationInvalidStateException(failed.getFailureMessage());
+        }
+    }
+
+    /**
+     * The whole transition table, for clients that render workflow actions
+     */
+    public Map<PublicationStatus, Set<PublicationStatus>> getNextStates() {
+        return nextStates;
+    }
+
+    /**
+     * Next statuses of one publication with the result of their guards
+     */
+    public List<WorkflowTransitionDTO> evaluateNextStates(Publication publication) {
+        PublicationStatus from = publication.getStatus();
+        List<WorkflowTransitionDTO> result = new ArrayList<>();
+        for (PublicationStatus to : nextStates.get(from)) {
+            WorkflowGuard failed = firstFailingGuard(publication, from, to);
+            result.add(WorkflowTransitionDTO.builder()
+                    .status(to)
+                    .allowed(failed == null)
+                    .reason(failed != null ? failed.getFailureMessage() : null)
+                    .build());
+        }
+        return result;
+    }
+
+    private WorkflowGuard firstFailingGuard(Publication publication, PublicationStatus from, PublicationStatus to) {
+        for (WorkflowGuard guard : guards[from.ordinal()][to.ordinal()]) {
+            if (!guard.test(publication)) {
+                return guard;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,62 @@
+package com.editorial.publications.workflow;
+
+import com.editorial.publications.entity.Publication;
+
+/**
+ * Guard predicates referenced by name from editorial:guards in the BPMN definition.
+ * Constants implement the check directly so evaluating a guard never allocates.
+ */
+public enum WorkflowGuard {
+
+    CONTENT_PRESENT("contentPresent", "Publication content cannot be empty") {
+        @Override
+        public boolean test(Publication publication) {
+            return publication.hasContent();
+        }
+    },
+    EDITOR_ASSIGNED("editorAssigned", "Editor name is required for approval") {
+        @Override
+        public boolean test(Publication publication) {
+            return isPresent(publication.getEditorName());
+        }
+    },
+    REJECTION_REASON_PRESENT("rejectionReasonPresent", "Rejection reason is required") {
+        @Override
+        public boolean test(Publication publication) {
+            return isPresent(publication.getRejectionReason());
+        }
+    },
+    REVIEW_COMMENTS_PRESENT("reviewCommentsPresent", "Review comments are required when requesting changes") {
+        @Override
+        public boolean test(Publication publication) {
+            return isPresent(publication.getReviewComments());
+        }
+    };
+
+    private final String bpmnName;
+    private final String failureMessage;
+
+    WorkflowGuard(String bpmnName, String failureMessage) {
+        this.bpmnName = bpmnName;
+        this.failureMessage = failureMessage;
+    }
+
+    public abstract boolean test(Publication publication);
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    public static WorkflowGuard fromBpmnName(String name) {
+        for (WorkflowGuard guard : values()) {
+            if (guard.bpmnName.equals(name)) {
+                return guard;
+            }
+        }
+        throw new IllegalStateException("Unknown workflow guard in BPMN definition: " + name);
+    }
+
+    private static boolean isPresent(String value) {
+        return value != null && !value.isBlank();
+    }
+}
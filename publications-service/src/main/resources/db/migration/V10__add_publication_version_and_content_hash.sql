@@ -0,0 +1,8 @@
+-- Optimistic locking for PATCH /publications/{id}, and a content hash so an unchanged manuscript is not rewritten
+ALTER TABLE publications ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE publications ADD COLUMN content_hash VARCHAR(64);
+
+-- Plain TEXT content is hashed here; compressed and streamed content gets its hash on the next write
+UPDATE publications
+SET content_hash = encode(sha256(convert_to(content, 'UTF8')), 'hex')
+WHERE content_compressed IS NULL AND content_version IS NULL;
@@ -0,0 +1,6 @@
+-- Publications ShardRebalancer copied onto this shard. Every other publication lives on the shard whose
+-- id sequence allocated it, so ShardRouter routes by id without asking each shard whether it has the row
+CREATE TABLE publication_relocations (
+    publication_id BIGINT PRIMARY KEY,
+    relocated_at TIMESTAMP NOT NULL DEFAULT now()
+);
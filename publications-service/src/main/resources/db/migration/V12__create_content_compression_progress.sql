@@ -0,0 +1,6 @@
+-- High-water mark of ContentCompressionMigrator: publications up to last_checked_id have been compressed or
+-- found too small. Later writes go through PublicationContentCodec.store, which compresses them itself
+CREATE TABLE content_compression_progress (
+    id SMALLINT PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+    last_checked_id BIGINT NOT NULL
+);
@@ -0,0 +1,6 @@
+-- Publications created on this shard before its id sequence was aligned to datasource.shards.id-stride have
+-- ids up to max_id that do not follow the shard's offset; ShardRouter routes them here by this mark
+CREATE TABLE publication_legacy_ids (
+    id SMALLINT PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+    max_id BIGINT NOT NULL
+);
@@ -0,0 +1,17 @@
+-- Baseline schema; IF NOT EXISTS so databases created by the former ddl-auto: update migrate cleanly
+CREATE TABLE IF NOT EXISTS publications (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    content TEXT NOT NULL,
+    content_compressed BYTEA,
+    author_id BIGINT NOT NULL,
+    status VARCHAR(255) NOT NULL
+        CHECK (status IN ('DRAFT', 'IN_REVIEW', 'APPROVED', 'PUBLISHED', 'REJECTED', 'REQUIRES_CHANGES')),
+    review_comments VARCHAR(500),
+    editor_name VARCHAR(100),
+    rejection_reason VARCHAR(500)
+);
+
+ALTER TABLE publications ADD COLUMN IF NOT EXISTS content_compressed BYTEA;
@@ -0,0 +1,11 @@
+-- PublicationRepository.findByAuthorId(authorId, pageable), ordered by created_at DESC, id DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_publications_author_created_id
+    ON publications (author_id, created_at, id);
+
+-- findByStatus(status, pageable) and countByStatus(status)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_publications_status_created_id
+    ON publications (status, created_at, id);
+
+-- Unfiltered listing, newest first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_publications_created_id
+    ON publications (created_at, id);
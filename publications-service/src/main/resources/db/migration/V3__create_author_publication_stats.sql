@@ -0,0 +1,24 @@
+-- Per-author publication counters, maintained by PublicationStatsService alongside every write
+CREATE TABLE author_publication_stats (
+    author_id BIGINT PRIMARY KEY,
+    draft_count BIGINT NOT NULL DEFAULT 0,
+    in_review_count BIGINT NOT NULL DEFAULT 0,
+    approved_count BIGINT NOT NULL DEFAULT 0,
+    published_count BIGINT NOT NULL DEFAULT 0,
+    rejected_count BIGINT NOT NULL DEFAULT 0,
+    requires_changes_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+INSERT INTO author_publication_stats (author_id, draft_count, in_review_count, approved_count,
+                                      published_count, rejected_count, requires_changes_count, updated_at)
+SELECT author_id,
+       COUNT(*) FILTER (WHERE status = 'DRAFT'),
+       COUNT(*) FILTER (WHERE status = 'IN_REVIEW'),
+       COUNT(*) FILTER (WHERE status = 'APPROVED'),
+       COUNT(*) FILTER (WHERE status = 'PUBLISHED'),
+       COUNT(*) FILTER (WHERE status = 'REJECTED'),
+       COUNT(*) FILTER (WHERE status = 'REQUIRES_CHANGES'),
+       now()
+FROM publications
+GROUP BY author_id;
@@ -0,0 +1,17 @@
+-- Manuscripts uploaded through PUT /publications/{id}/content are stored as fixed-size chunks.
+-- content_version identifies the current upload; NULL means the content is inline in publications.content
+ALTER TABLE publications ADD COLUMN content_version BIGINT;
+ALTER TABLE publications ADD COLUMN content_length BIGINT;
+
+CREATE SEQUENCE publication_content_version_seq;
+
+CREATE TABLE publication_content_chunks (
+    publication_id BIGINT NOT NULL REFERENCES publications (id) ON DELETE CASCADE,
+    content_version BIGINT NOT NULL,
+    seq INTEGER NOT NULL,
+    raw_offset BIGINT NOT NULL,
+    raw_length INTEGER NOT NULL,
+    compressed BOOLEAN NOT NULL,
+    data BYTEA NOT NULL,
+    PRIMARY KEY (publication_id, content_version, seq)
+);
@@ -0,0 +1,2 @@
+-- Optional time at which an APPROVED publication is published automatically
+ALTER TABLE publications ADD COLUMN publish_at TIMESTAMP(6);
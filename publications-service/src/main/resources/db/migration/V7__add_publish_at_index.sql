@@ -0,0 +1,4 @@
+-- ScheduledPublishingService: due and upcoming APPROVED publications, claimed with SKIP LOCKED
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_publications_approved_publish_at
+    ON publications (publish_at, id)
+    WHERE status = 'APPROVED' AND publish_at IS NOT NULL;
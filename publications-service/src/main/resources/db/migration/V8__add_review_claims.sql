@@ -0,0 +1,4 @@
+-- Review queue leases: an IN_REVIEW publication is held by claimed_by until claim_expires_at.
+-- Claims scan idx_publications_status_created_id (status, created_at, id) from V2
+ALTER TABLE publications ADD COLUMN claimed_by VARCHAR(100);
+ALTER TABLE publications ADD COLUMN claim_expires_at TIMESTAMP(6);
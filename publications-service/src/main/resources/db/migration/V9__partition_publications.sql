@@ -0,0 +1,63 @@
+-- Declarative partitioning: active rows in publications_active, rows archived by PublicationArchiver in
+-- publications_archived, which is range-partitioned by archived_at (one partition per month, created on demand).
+-- Queries that filter on archived = false only touch publications_active.
+-- The partition key has to be part of the primary key, which still leads with id for lookups by id
+-- (those scan each partition's index); ids stay unique through publication_id_seq.
+ALTER TABLE publications RENAME TO publications_unpartitioned;
+
+CREATE SEQUENCE publication_id_seq;
+SELECT setval('publication_id_seq', COALESCE((SELECT MAX(id) FROM publications_unpartitioned), 0) + 1, false);
+
+CREATE TABLE publications (
+    id BIGINT NOT NULL DEFAULT nextval('publication_id_seq'),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    content TEXT NOT NULL,
+    content_compressed BYTEA,
+    author_id BIGINT NOT NULL,
+    status VARCHAR(255) NOT NULL
+        CHECK (status IN ('DRAFT', 'IN_REVIEW', 'APPROVED', 'PUBLISHED', 'REJECTED', 'REQUIRES_CHANGES')),
+    review_comments VARCHAR(500),
+    editor_name VARCHAR(100),
+    rejection_reason VARCHAR(500),
+    content_version BIGINT,
+    content_length BIGINT,
+    publish_at TIMESTAMP(6),
+    claimed_by VARCHAR(100),
+    claim_expires_at TIMESTAMP(6),
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    -- Time the row reached its final status; 'infinity' while active
+    archived_at TIMESTAMP(6) NOT NULL DEFAULT 'infinity',
+    PRIMARY KEY (id, archived, archived_at)
+) PARTITION BY LIST (archived);
+
+ALTER SEQUENCE publication_id_seq OWNED BY publications.id;
+
+CREATE TABLE publications_active PARTITION OF publications FOR VALUES IN (FALSE);
+
+CREATE TABLE publications_archived PARTITION OF publications FOR VALUES IN (TRUE)
+    PARTITION BY RANGE (archived_at);
+
+INSERT INTO publications (id, created_at, updated_at, title, content, content_compressed, author_id, status,
+                          review_comments, editor_name, rejection_reason, content_version, content_length,
+                          publish_at, claimed_by, claim_expires_at)
+SELECT id, created_at, updated_at, title, content, content_compressed, author_id, status,
+       review_comments, editor_name, rejection_reason, content_version, content_length,
+       publish_at, claimed_by, claim_expires_at
+FROM publications_unpartitioned;
+
+-- A foreign key cannot reference id alone any more; publications are never deleted, so nothing relied on the cascade
+ALTER TABLE publication_content_chunks DROP CONSTRAINT IF EXISTS publication_content_chunks_publication_id_fkey;
+DROP TABLE publications_unpartitioned;
+
+-- Indexes from V2 and V7, now created on every partition
+CREATE INDEX idx_publications_author_created_id ON publications (author_id, created_at, id);
+CREATE INDEX idx_publications_status_created_id ON publications (status, created_at, id);
+CREATE INDEX idx_publications_created_id ON publications (created_at, id);
+CREATE INDEX idx_publications_approved_publish_at ON publications (publish_at, id)
+    WHERE status = 'APPROVED' AND publish_at IS NOT NULL;
+
+-- PublicationArchiver: final-state rows waiting to be archived (the final statuses of bpmn/editorial-process.bpmn)
+CREATE INDEX idx_publications_final_updated_at ON publications_active (updated_at, id)
+    WHERE status IN ('PUBLISHED', 'REJECTED');
@@ -0,0 +1,43 @@
+package com.editorial.publications.diagnostics;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the calling thread between start and close, through the
+ * same per-request accounting QueryDiagnosticsFilter uses, so statements of background jobs never leak in.
+ * <pre>
+ * try (StatementCounter statements = StatementCounter.start("GET", "/x")) {
+ *     service.call();
+ *     assertThat(statements.count()).isEqualTo(1);
+ * }
+ * </pre>
+ */
+public final class StatementCounter implements AutoCloseable {
+
+    private final QueryDiagnostics diagnostics;
+
+    private StatementCounter(QueryDiagnostics diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+
+    public static StatementCounter start(String method, String endpoint) {
+        QueryDiagnostics diagnostics = QueryDiagnostics.get();
+        if (diagnostics == null) {
+            throw new IllegalStateException("Counting statements requires diagnostics.queries.enabled");
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest(method, endpoint);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, endpoint);
+        diagnostics.beginRequest(request);
+        return new StatementCounter(diagnostics);
+    }
+
+    public int count() {
+        return diagnostics.statementCount();
+    }
+
+    @Override
+    public void close() {
+        diagnostics.endRequest();
+    }
+}
@@ -0,0 +1,61 @@
+package com.editorial.publications.repository;
+
+import com.editorial.publications.PostgresContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The hot PublicationRepository queries, in the shape Hibernate generates them, must be served by an index.
+ * Partition indexes carry generated names, so only the scan type is checked.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PublicationRepositoryQueryPlanTest extends PostgresContainerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void disableSequentialScans() {
+        // Empty tables are always cheapest to scan; with seq scans off the plan shows whether an index matches
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    void findByAuthorIdUsesIndex() {
+        assertIndexScan("SELECT * FROM publications WHERE author_id = 1 ORDER BY created_at DESC, id DESC LIMIT 10");
+    }
+
+    @Test
+    void findByStatusUsesIndex() {
+        assertIndexScan("SELECT * FROM publications WHERE status = 'IN_REVIEW' "
+                + "ORDER BY created_at DESC, id DESC LIMIT 10");
+    }
+
+    @Test
+    void countByStatusUsesIndex() {
+        assertIndexScan("SELECT count(*) FROM publications WHERE status = 'DRAFT'");
+    }
+
+    @Test
+    void newestFirstListingUsesIndex() {
+        assertIndexScan("SELECT * FROM publications ORDER BY created_at DESC, id DESC LIMIT 10");
+    }
+
+    @Test
+    void dueForPublishingUsesPartialIndex() {
+        assertIndexScan("SELECT id FROM publications WHERE archived = false AND status = 'APPROVED' "
+                + "AND publish_at <= now() ORDER BY publish_at, id LIMIT 500");
+    }
+
+    private void assertIndexScan(String sql) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+        assertThat(plan).contains("Index").doesNotContain("Seq Scan");
+    }
+}
@@ -0,0 +1,64 @@
+package com.editorial.publications.service;
+
+import com.editorial.publications.PostgresContainerTest;
+import com.editorial.publications.client.AuthorServiceClient;
+import com.editorial.publications.diagnostics.StatementCounter;
+import com.editorial.publications.dto.PublicationDTO;
+import com.editorial.publications.entity.PublicationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Exact number of SQL statements per service call; a change here is a new query (or a new N+1) on a hot path.
+ * authors-service is mocked, so only this service's database is counted.
+ */
+@SpringBootTest
+class PublicationServiceStatementCountTest extends PostgresContainerTest {
+
+    private static final long AUTHOR_ID = 42L;
+
+    @Autowired
+    private PublicationService publicationService;
+
+    @MockBean
+    private AuthorServiceClient authorServiceClient;
+
+    @BeforeEach
+    void authorExists() {
+        when(authorServiceClient.authorExists(anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void createPublicationInsertsAndCountsIt() {
+        try (StatementCounter statements = StatementCounter.start("POST", "/publications")) {
+            publicationService.createPublication(newDraft());
+            // INSERT of the publication, upsert of the author's counters
+            assertThat(statements.count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void changeStatusLoadsUpdatesAndMovesCounters() {
+        Long id = publicationService.createPublication(newDraft()).getId();
+        try (StatementCounter statements = StatementCounter.start("PATCH", "/publications/{id}/status")) {
+            publicationService.changeStatus(id, PublicationStatus.IN_REVIEW, null);
+            // SELECT by id, UPDATE of the changed columns, upsert of the author's counters
+            assertThat(statements.count()).isEqualTo(3);
+        }
+    }
+
+    private static PublicationDTO newDraft() {
+        return PublicationDTO.builder()
+                .title("Statement counts")
+                .content("A manuscript with some content")
+                .authorId(AUTHOR_ID)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.editorial.publications.workflow;
+
+import com.editorial.publications.dto.WorkflowTransitionDTO;
+import com.editorial.publications.entity.Publication;
+import com.editorial.publications.entity.PublicationStatus;
+import com.editorial.publications.exception.PublicationInvalidStateException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The workflow compiled from bpmn/editorial-process.bpmn must enforce exactly the rules of the
+ * canChangeStatus switch and PublicationStatusValidator it replaced
+ */
+class EditorialWorkflowTest {
+
+    private static EditorialWorkflow workflow;
+
+    @BeforeAll
+    static void compileDefinition() {
+        workflow = new EditorialWorkflow(new ClassPathResource("bpmn/editorial-process.bpmn"));
+    }
+
+    @Test
+    void transitionTableMatchesLegacySwitch() {
+        for (PublicationStatus from : PublicationStatus.values()) {
+            for (PublicationStatus to : PublicationStatus.values()) {
+                assertThat(workflow.canTransition(from, to))
+                        .as("%s -> %s", from, to)
+                        .isEqualTo(LegacyTransitionRules.canChangeStatus(from, to));
+            }
+        }
+    }
+
+    @Test
+    void nextStatesMatchLegacySwitch() {
+        Map<PublicationStatus, Set<PublicationStatus>> expected = EnumSet.allOf(PublicationStatus.class).stream()
+                .collect(Collectors.toMap(Function.identity(), from -> EnumSet.allOf(PublicationStatus.class).stream()
+                        .filter(to -> LegacyTransitionRules.canChangeStatus(from, to))
+                        .collect(Collectors.toSet())));
+
+        assertThat(workflow.getNextStates()).isEqualTo(expected);
+        expected.forEach((from, targets) -> assertThat(workflow.isFinal(from)).isEqualTo(targets.isEmpty()));
+    }
+
+    @Test
+    void guardsReportLegacyValidatorMessages() {
+        for (PublicationStatus from : PublicationStatus.values()) {
+            Publication empty = Publication.builder().status(from).build();
+            for (WorkflowTransitionDTO transition : workflow.evaluateNextStates(empty)) {
+                String expected = LegacyTransitionRules.validationFailure(empty, transition.getStatus());
+                assertThat(transition.getReason()).as("%s -> %s", from, transition.getStatus()).isEqualTo(expected);
+                assertThat(transition.isAllowed()).isEqualTo(expected == null);
+                assertThat(workflow.isGuarded(from, transition.getStatus())).isEqualTo(expected != null);
+            }
+        }
+    }
+
+    @Test
+    void checkTransitionAcceptsWhatLegacyRulesAccepted() {
+        for (PublicationStatus from : PublicationStatus.values()) {
+            for (PublicationStatus to : PublicationStatus.values()) {
+                for (Publication publication : new Publication[]{Publication.builder().status(from).build(),
+                        complete(from)}) {
+                    Throwable legacy = catchFailure(() -> LegacyTransitionRules.checkTransition(publication, to));
+                    if (legacy == null) {
+                        assertThatCode(() -> workflow.checkTransition(publication, to)).doesNotThrowAnyException();
+                    } else {
+                        assertThatThrownBy(() -> workflow.checkTransition(publication, to))
+                                .isInstanceOf(PublicationInvalidStateException.class)
+                                .hasMessage(legacy.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    private static Publication complete(PublicationStatus status) {
+        return Publication.builder()
+                .status(status)
+                .content("Texto")
+                .editorName("editor")
+                .rejectionReason("Fuera de línea editorial")
+                .reviewComments("Revisar la introducción")
+                .build();
+    }
+
+    private static Throwable catchFailure(Runnable check) {
+        try {
+            check.run();
+            return null;
+        } catch (PublicationInvalidStateException e) {
+            return e;
+        }
+    }
+}
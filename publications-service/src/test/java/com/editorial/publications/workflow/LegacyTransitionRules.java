@@ -0,0 +1,66 @@
+package com.editorial.publications.workflow;
+
+import com.editorial.publications.entity.Publication;
+import com.editorial.publications.entity.PublicationStatus;
+import com.editorial.publications.exception.PublicationInvalidStateException;
+
+/**
+ * The transition rules as they were before EditorialWorkflow: Publication.canChangeStatus followed by
+ * PublicationStatusValidator.validate, copied from the commit that removed them. Reference for
+ * EditorialWorkflowTest and the baseline of WorkflowTransitionBenchmark.
+ */
+final class LegacyTransitionRules {
+
+    private LegacyTransitionRules() {
+    }
+
+    static boolean canChangeStatus(PublicationStatus from, PublicationStatus newStatus) {
+        return switch (from) {
+            case DRAFT -> newStatus == PublicationStatus.IN_REVIEW;
+            case IN_REVIEW -> newStatus == PublicationStatus.APPROVED ||
+                    newStatus == PublicationStatus.REJECTED ||
+                    newStatus == PublicationStatus.REQUIRES_CHANGES;
+            case REQUIRES_CHANGES -> newStatus == PublicationStatus.IN_REVIEW;
+            case APPROVED -> newStatus == PublicationStatus.PUBLISHED;
+            case PUBLISHED, REJECTED -> false;
+        };
+    }
+
+    /**
+     * The old changeStatus checks: the switch, then the validator chain
+     */
+    static void checkTransition(Publication publication, PublicationStatus newStatus) {
+        if (!canChangeStatus(publication.getStatus(), newStatus)) {
+            throw new PublicationInvalidStateException(
+                    "Cannot change publication status from " + publication.getStatus() + " to " + newStatus);
+        }
+        String failure = validationFailure(publication, newStatus);
+        if (failure != null) {
+            throw new PublicationInvalidStateException(failure);
+        }
+    }
+
+    /**
+     * Message PublicationStatusValidator threw for this target status, null when it passed
+     */
+    static String validationFailure(Publication publication, PublicationStatus newStatus) {
+        switch (newStatus) {
+            case IN_REVIEW:
+                return publication.hasContent() ? null : "Publication content cannot be empty";
+            case APPROVED:
+                return isBlank(publication.getEditorName()) ? "Editor name is required for approval" : null;
+            case REJECTED:
+                return isBlank(publication.getRejectionReason()) ? "Rejection reason is required" : null;
+            case REQUIRES_CHANGES:
+                return isBlank(publication.getReviewComments())
+                        ? "Review comments are required when requesting changes" : null;
+            default:
+                // All approved publications can be published
+                return null;
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
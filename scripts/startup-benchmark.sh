@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+# Time-to-first-request of a service: regular fat jar vs. the fast-startup build (AOT + CDS).
+#
+# Usage: scripts/startup-benchmark.sh <authors-service|publications-service> [runs]
+# The service's database must be reachable (e.g. docker-compose up -d db-authors db-publications)
+# and SPRING_DATASOURCE_URL / AUTHORS_SERVICE_URL set for a local run.
+set -euo pipefail
+
+SERVICE=${1:?service name required}
+RUNS=${2:-5}
+case "$SERVICE" in
+  authors-service)      PORT=8001; PROBE=/api/authors ;;
+  publications-service) PORT=8002; PROBE=/api/publications ;;
+  *) echo "unknown service: $SERVICE" >&2; exit 1 ;;
+esac
+
+cd "$(dirname "$0")/../$SERVICE"
+mvn -q clean package -DskipTests -Pfast-startup
+JAR=target/$SERVICE-1.0.0.jar
+EXEC_JAR=target/$SERVICE-1.0.0-exec.jar
+FAST_OPTS=(-Dspring.aot.enabled=true -Dspring.profiles.active=fast)
+
+java -XX:ArchiveClassesAtExit=target/app.jsa "${FAST_OPTS[@]}" \
+    -Dmigrations.run-on-startup=false -Dspring.context.exit=onRefresh -jar "$JAR" > /dev/null
+
+# Start the given command and print milliseconds until the probe answers 200
+time_to_first_request() {
+  local start end pid
+  start=$(date +%s%N)
+  SERVER_PORT=$PORT "$@" > /dev/null 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "http://localhost:$PORT$PROBE"; do
+    kill -0 "$pid" 2> /dev/null || { echo "service exited" >&2; exit 1; }
+    sleep 0.05
+  done
+  end=$(date +%s%N)
+  kill "$pid"; wait "$pid" 2> /dev/null || true
+  echo $(( (end - start) / 1000000 ))
+}
+
+echo "run,baseline_ms,fast_startup_ms"
+for i in $(seq 1 "$RUNS"); do
+  baseline=$(time_to_first_request java -jar "$EXEC_JAR")
+  fast=$(time_to_first_request java -XX:SharedArchiveFile=target/app.jsa "${FAST_OPTS[@]}" -jar "$JAR")
+  echo "$i,$baseline,$fast"
+done